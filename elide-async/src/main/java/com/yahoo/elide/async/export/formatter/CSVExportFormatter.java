@@ -8,26 +8,32 @@ package com.yahoo.elide.async.export.formatter;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.core.PersistentResource;
-
+import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.opendevl.JFlat;
 
 import org.apache.commons.lang3.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * JSON output format implementation.
+ * CSV output format implementation.
+ * <p>
+ * Each record is written directly from the attributes of the request {@link EntityProjection}, one column per
+ * attribute, in the same order as the header.  Strings are quoted (embedded quotes are doubled), numbers and
+ * booleans are written as is, null values are left empty and any other value is written in its JSON form.
  */
 @Slf4j
 public class CSVExportFormatter implements TableExportFormatter {
     private static final String COMMA = ",";
+    private static final String COLUMN_SEPARATOR = ", ";
     private static final String DOUBLE_QUOTES = "\"";
+    private static final char QUOTE = '"';
+    private static final int DEFAULT_RECORD_SIZE = 128;
 
     private boolean skipCSVHeader = false;
     private ObjectMapper mapper;
@@ -39,43 +45,72 @@ public class CSVExportFormatter implements TableExportFormatter {
 
     @Override
     public String format(PersistentResource resource, Integer recordNumber) {
-        if (resource == null) {
+        if (resource == null || resource.getObject() == null) {
             return null;
         }
 
-        StringBuilder str = new StringBuilder();
-
-        List<Object[]> json2Csv;
+        Set<Attribute> attributes = resource.getRequestScope().getEntityProjection().getAttributes();
+        if (attributes == null) {
+            return "";
+        }
 
+        StringBuilder str = new StringBuilder(DEFAULT_RECORD_SIZE);
         try {
-            String jsonStr = JSONExportFormatter.resourceToJSON(mapper, resource);
+            boolean first = true;
+            for (Attribute attribute : attributes) {
+                if (!first) {
+                    str.append(COLUMN_SEPARATOR);
+                }
+                first = false;
+                appendValue(str, resource.getAttribute(attribute));
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("Exception while converting to CSV: {}", e.getMessage());
+            throw new IllegalStateException(e);
+        }
+        return str.toString();
+    }
 
-            JFlat flat = new JFlat(jsonStr);
+    private void appendValue(StringBuilder str, Object value) {
+        if (value == null) {
+            return;
+        }
 
-            json2Csv = flat.json2Sheet().headerSeparator("_").getJsonAsSheet();
+        if (value instanceof String) {
+            appendQuoted(str, (String) value);
+            return;
+        }
 
-            int index = 0;
+        if (value instanceof Number || value instanceof Boolean) {
+            str.append(value);
+            return;
+        }
 
-            for (Object[] obj : json2Csv) {
-                // convertToCSV is called once for each PersistentResource in the observable.
-                // json2Csv will always have 2 entries.
-                // 0th index is the header so we need to skip the header.
-                if (index++ == 0) {
-                    continue;
-                }
+        // Dates, enums and other complex values are rendered the same way the JSON formatter renders them.
+        JsonNode node = mapper.valueToTree(value);
+        if (node == null || node.isNull()) {
+            return;
+        }
+        if (node.isNumber() || node.isBoolean()) {
+            str.append(node.asText());
+        } else if (node.isTextual()) {
+            appendQuoted(str, node.textValue());
+        } else {
+            appendQuoted(str, node.toString());
+        }
+    }
 
-                String objString = Arrays.toString(obj);
-                if (objString != null) {
-                    //The arrays.toString returns o/p with [ and ] at the beginning and end. So need to exclude them.
-                    objString = objString.substring(1, objString.length() - 1);
-                }
-                str.append(objString);
+    private static void appendQuoted(StringBuilder str, String value) {
+        str.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                // Quotes within a quoted field are escaped by doubling them.
+                str.append(QUOTE);
             }
-        } catch (Exception e) {
-            log.error("Exception while converting to CSV: {}", e.getMessage());
-            throw new IllegalStateException(e);
+            str.append(c);
         }
-        return str.toString();
+        str.append(QUOTE);
     }
 
     /**
@@ -90,18 +125,10 @@ public class CSVExportFormatter implements TableExportFormatter {
 
         return projection.getAttributes().stream()
         .map(attr -> {
-            StringBuilder column = new StringBuilder();
             String alias = attr.getAlias();
-            column.append(StringUtils.isNotEmpty(alias) ? alias : attr.getName());
-            return column;
-        })
-        .map(quotable -> {
-            // Quotes at the beginning
-            quotable.insert(0, DOUBLE_QUOTES);
-            // Quotes at the end
-            quotable.append(DOUBLE_QUOTES);
-            return quotable;
+            return StringUtils.isNotEmpty(alias) ? alias : attr.getName();
         })
+        .map(column -> DOUBLE_QUOTES + column.replace(DOUBLE_QUOTES, DOUBLE_QUOTES + DOUBLE_QUOTES) + DOUBLE_QUOTES)
         .collect(Collectors.joining(COMMA));
     }
 
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.async.resources;
 
+import com.yahoo.elide.async.service.storageengine.ByteRangeResponse;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 
@@ -13,19 +14,23 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.channels.SeekableByteChannel;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
@@ -60,19 +65,48 @@ public class ExportApiEndpoint {
      * Read handler.
      *
      * @param asyncQueryId asyncQueryId to download results
+     * @param range HTTP Range header value, if any
+     * @param httpServletResponse HttpServletResponse object
      * @param asyncResponse AsyncResponse object
      */
     @GET
     @Path("/{asyncQueryId}")
-    public void get(@PathParam("asyncQueryId") String asyncQueryId, @Context HttpServletResponse httpServletResponse,
-            @Suspended final AsyncResponse asyncResponse) {
+    public void get(@PathParam("asyncQueryId") String asyncQueryId, @HeaderParam("Range") String range,
+            @Context HttpServletResponse httpServletResponse, @Suspended final AsyncResponse asyncResponse) {
+        // Raw results opened for the request, so that they can be released if the request times out first.
+        AtomicReference<ByteRangeResponse> pendingRawResults = new AtomicReference<>();
+
         asyncResponse.setTimeout(exportApiProperties.getMaxDownloadTimeSeconds(), TimeUnit.SECONDS);
         asyncResponse.setTimeoutHandler(async -> {
             ResponseBuilder resp = Response.status(Response.Status.REQUEST_TIMEOUT).entity("Timed out.");
             async.resume(resp.build());
+            ByteRangeResponse rawResults = pendingRawResults.get();
+            if (rawResults != null) {
+                rawResults.close();
+            }
         });
 
         exportApiProperties.getExecutor().submit(() -> {
+            SeekableByteChannel channel;
+            try {
+                channel = resultStorageEngine.getResultsChannelByID(asyncQueryId);
+            } catch (IllegalStateException e) {
+                log.debug(e.getMessage());
+                asyncResponse.resume(Response.status(HttpStatus.SC_NOT_FOUND)
+                        .entity(asyncQueryId + " Not Found").build());
+                return;
+            }
+
+            if (channel != null) {
+                ByteRangeResponse rawResults = ByteRangeResponse.of(channel, range);
+                pendingRawResults.set(rawResults);
+                // The request may have timed out already, in which case nobody will write the body.
+                if (!asyncResponse.resume(getRawResults(asyncQueryId, rawResults))) {
+                    rawResults.close();
+                }
+                return;
+            }
+
             Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
 
             StreamingOutput streamingOutput = outputStream -> {
@@ -118,4 +152,26 @@ public class ExportApiEndpoint {
                     .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build());
         });
     }
+
+    /**
+     * Streams the stored bytes of the results, honoring a single range request.
+     * @param asyncQueryId asyncQueryId to download results
+     * @param rawResults Response over the stored results
+     * @return Response
+     */
+    private Response getRawResults(String asyncQueryId, ByteRangeResponse rawResults) {
+        ResponseBuilder builder = Response.status(rawResults.getStatus());
+        rawResults.getHeaders().forEach(builder::header);
+        if (!rawResults.hasBody()) {
+            return builder.build();
+        }
+
+        StreamingOutput streamingOutput = rawResults::write;
+        return builder
+                .entity(streamingOutput)
+                .type(MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .header(HttpHeaders.CONTENT_LENGTH, rawResults.getContentLength())
+                .build();
+    }
 }
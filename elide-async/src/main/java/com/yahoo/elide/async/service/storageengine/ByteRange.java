@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.async.service.storageengine;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Inclusive range of bytes of stored results, as requested by an HTTP Range header.
+ */
+@Getter
+public class ByteRange {
+    private static final String BYTES_UNIT = "bytes=";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long start;
+    private final long end;
+    private final long size;
+
+    private ByteRange(long start, long end, long size) {
+        this.start = start;
+        this.end = end;
+        this.size = size;
+    }
+
+    /**
+     * Range covering all of the stored results.
+     * @param size Total size of the stored results.
+     * @return ByteRange
+     */
+    public static ByteRange full(long size) {
+        return new ByteRange(0, size - 1, size);
+    }
+
+    /**
+     * Parses a single range HTTP Range header.
+     * @param header Value of the Range header. Can be null.
+     * @param size Total size of the stored results.
+     * @return The requested range or null if the whole content should be returned
+     * (no header, multiple ranges or a header which cannot be parsed).
+     * @throws IllegalArgumentException if the range cannot be satisfied.
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith(BYTES_UNIT) || header.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        long start;
+        long end;
+        try {
+            if (dash == 0) {
+                // Suffix range: the last N bytes.
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    throw new IllegalArgumentException("Unsatisfiable range " + header);
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1
+                        ? size - 1
+                        : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (start >= size || start > end) {
+            throw new IllegalArgumentException("Unsatisfiable range " + header);
+        }
+        return new ByteRange(start, end, size);
+    }
+
+    /**
+     * @return Number of bytes in the range.
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return Value of the Content-Range response header for this range.
+     */
+    public String toContentRange() {
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+
+    /**
+     * Copies the range from the channel to the output stream.  File channels are transferred without
+     * decoding or copying the content through the heap where the platform supports it.
+     * @param channel Channel of the stored results.
+     * @param outputStream Stream to write to.
+     * @throws IOException IOException
+     */
+    public void transfer(SeekableByteChannel channel, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long position = start;
+        long remaining = getLength();
+
+        if (channel instanceof FileChannel) {
+            FileChannel fileChannel = (FileChannel) channel;
+            while (remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } else {
+            channel.position(position);
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, Math.max(remaining, 1)));
+            while (remaining > 0) {
+                buffer.clear();
+                if (remaining < buffer.capacity()) {
+                    buffer.limit((int) remaining);
+                }
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                remaining -= read;
+            }
+        }
+        outputStream.flush();
+    }
+}
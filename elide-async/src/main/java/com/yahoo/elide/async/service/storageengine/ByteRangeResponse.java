@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.async.service.storageengine;
+
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Response to a download of the stored bytes of results, honoring a single range request.
+ * <p>
+ * It does not depend on a web framework: each export endpoint maps the status, headers and body to its own
+ * response type.  The response owns the channel of the stored results until its body is written or it is closed.
+ */
+@Slf4j
+public class ByteRangeResponse implements Closeable {
+    public static final String ACCEPT_RANGES = "Accept-Ranges";
+    public static final String CONTENT_RANGE = "Content-Range";
+
+    @Getter private final int status;
+    @Getter private final Map<String, String> headers;
+    private final SeekableByteChannel channel;
+    private final ByteRange range;
+
+    private ByteRangeResponse(int status, Map<String, String> headers, SeekableByteChannel channel,
+            ByteRange range) {
+        this.status = status;
+        this.headers = headers;
+        this.channel = channel;
+        this.range = range;
+    }
+
+    /**
+     * Builds the response for the stored results.  The channel is closed right away if there is no body to write.
+     * @param channel Channel over the stored results.
+     * @param rangeHeader HTTP Range header value, if any.
+     * @return 200 with all the results, 206 with the requested range, 416 if the range cannot be satisfied or
+     * 500 if the size of the results cannot be read.
+     */
+    public static ByteRangeResponse of(SeekableByteChannel channel, String rangeHeader) {
+        long size;
+        try {
+            size = channel.size();
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+            closeQuietly(channel);
+            return new ByteRangeResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, Collections.emptyMap(), null, null);
+        }
+
+        ByteRange range;
+        try {
+            range = ByteRange.parse(rangeHeader, size);
+        } catch (IllegalArgumentException e) {
+            closeQuietly(channel);
+            return new ByteRangeResponse(HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE,
+                    Collections.singletonMap(CONTENT_RANGE, "bytes */" + size), null, null);
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(ACCEPT_RANGES, "bytes");
+        if (range == null) {
+            return new ByteRangeResponse(HttpStatus.SC_OK, headers, channel, ByteRange.full(size));
+        }
+        headers.put(CONTENT_RANGE, range.toContentRange());
+        return new ByteRangeResponse(HttpStatus.SC_PARTIAL_CONTENT, headers, channel, range);
+    }
+
+    /**
+     * @return Whether the response has a body to write.
+     */
+    public boolean hasBody() {
+        return channel != null;
+    }
+
+    /**
+     * @return Number of bytes in the body.
+     */
+    public long getContentLength() {
+        return range == null ? 0 : range.getLength();
+    }
+
+    /**
+     * Writes the body and closes the channel.
+     * @param outputStream Stream to write to.
+     * @throws IOException IOException
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        try (SeekableByteChannel results = channel) {
+            range.transfer(results, outputStream);
+        }
+    }
+
+    /**
+     * Releases the channel if the body is never written.
+     */
+    @Override
+    public void close() {
+        if (channel != null) {
+            closeQuietly(channel);
+        }
+    }
+
+    private static void closeQuietly(SeekableByteChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+        }
+    }
+}
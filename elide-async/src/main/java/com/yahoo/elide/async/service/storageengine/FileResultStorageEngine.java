@@ -13,48 +13,90 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.inject.Singleton;
 
 /**
  * Default implementation of ResultStorageEngine that stores results on local filesystem.
  * It supports Async Module to store results with async query.
+ * <p>
+ * Records are buffered and written to the file channel in chunks of {@code chunkSize} bytes.  The file is only
+ * forced to disk once all records have been written.  Results can optionally be stored gzip compressed.
  */
 @Singleton
 @Slf4j
 @Getter
 public class FileResultStorageEngine implements ResultStorageEngine {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
     @Setter private String basePath;
+    @Setter private boolean enableCompression;
+    private int chunkSize;
 
     /**
      * Constructor.
      * @param basePath basePath for storing the files. Can be absolute or relative.
      */
     public FileResultStorageEngine(String basePath) {
+        this(basePath, false, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * @param basePath basePath for storing the files. Can be absolute or relative.
+     * @param enableCompression Whether to gzip compress the stored results.
+     * @param chunkSize Size in bytes of the chunks the results are written in.
+     */
+    public FileResultStorageEngine(String basePath, boolean enableCompression, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive.");
+        }
         this.basePath = basePath;
+        this.enableCompression = enableCompression;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public TableExport storeResults(TableExport tableExport, Observable<String> result) {
         log.debug("store AsyncResults for Download");
 
-        try (BufferedWriter writer = getWriter(tableExport.getId())) {
+        try (FileChannel channel = getChannel(tableExport.getId());
+                ChunkWriter writer = getWriter(channel)) {
             result
-                .map(record -> record.concat(System.lineSeparator()))
                 .subscribe(
-                        recordCharArray -> {
-                            writer.write(recordCharArray);
-                            writer.flush();
+                        record -> {
+                            writer.write(record);
+                            writer.write(System.lineSeparator());
                         },
                         throwable -> {
                             throw new IllegalStateException(STORE_ERROR, throwable);
                         },
-                        writer::flush
+                        () -> {
+                            // Writes any partial chunk and the compression trailer before syncing the file.
+                            writer.finish();
+                            channel.force(false);
+                        }
                 );
         } catch (IOException e) {
             throw new IllegalStateException(STORE_ERROR, e);
@@ -93,21 +135,116 @@ public class FileResultStorageEngine implements ResultStorageEngine {
                 BufferedReader::close);
     }
 
+    @Override
+    public SeekableByteChannel getResultsChannelByID(String asyncQueryID) {
+        if (enableCompression) {
+            // Stored bytes are compressed, results must be decoded.
+            return null;
+        }
+
+        try {
+            return FileChannel.open(getPath(asyncQueryID), StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.debug(e.getMessage());
+            throw new IllegalStateException(RETRIEVE_ERROR, e);
+        }
+    }
+
+    private Path getPath(String asyncQueryID) {
+        return Paths.get(basePath + File.separator + asyncQueryID);
+    }
+
     private BufferedReader getReader(String asyncQueryID) {
         try {
-            return Files.newBufferedReader(Paths.get(basePath + File.separator + asyncQueryID));
+            InputStream in = Files.newInputStream(getPath(asyncQueryID));
+            if (enableCompression) {
+                in = new GZIPInputStream(in, chunkSize);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), chunkSize);
         } catch (IOException e) {
             log.debug(e.getMessage());
             throw new IllegalStateException(RETRIEVE_ERROR, e);
         }
     }
 
-    private BufferedWriter getWriter(String asyncQueryID) {
+    private FileChannel getChannel(String asyncQueryID) {
         try {
-            return Files.newBufferedWriter(Paths.get(basePath + File.separator + asyncQueryID));
+            return FileChannel.open(getPath(asyncQueryID), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
         } catch (IOException e) {
             log.debug(e.getMessage());
             throw new IllegalStateException(STORE_ERROR, e);
         }
     }
+
+    private ChunkWriter getWriter(FileChannel channel) throws IOException {
+        if (enableCompression) {
+            GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), chunkSize);
+            return new ChunkWriter(Channels.newChannel(gzip), gzip, chunkSize);
+        }
+        return new ChunkWriter(channel, null, chunkSize);
+    }
+
+    /**
+     * Encodes records as UTF-8 straight into a buffer of {@code chunkSize} bytes, which is written to the channel
+     * each time it fills up.
+     */
+    private static class ChunkWriter implements Closeable {
+        // The longest UTF-8 encoding of a single character (a surrogate pair).
+        private static final int MAX_CHARACTER_BYTES = 4;
+
+        private final WritableByteChannel channel;
+        private final GZIPOutputStream gzip;
+        private final ByteBuffer chunk;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        ChunkWriter(WritableByteChannel channel, GZIPOutputStream gzip, int chunkSize) {
+            this.channel = channel;
+            this.gzip = gzip;
+            this.chunk = ByteBuffer.allocate(Math.max(chunkSize, MAX_CHARACTER_BYTES));
+        }
+
+        void write(String text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            encoder.reset();
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, chunk, true);
+                if (result.isOverflow()) {
+                    writeChunk();
+                }
+            } while (result.isOverflow());
+
+            while (encoder.flush(chunk).isOverflow()) {
+                writeChunk();
+            }
+        }
+
+        /**
+         * Writes any partial chunk and, when compressing, the gzip trailer.
+         */
+        void finish() throws IOException {
+            writeChunk();
+            if (gzip != null) {
+                gzip.finish();
+            }
+        }
+
+        private void writeChunk() throws IOException {
+            chunk.flip();
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+            chunk.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (gzip != null) {
+                gzip.close();
+            }
+        }
+    }
 }
@@ -9,6 +9,8 @@ package com.yahoo.elide.async.service.storageengine;
 import com.yahoo.elide.async.models.TableExport;
 import io.reactivex.Observable;
 
+import java.nio.channels.SeekableByteChannel;
+
 /**
  * Utility interface used for storing the results of AsyncQuery for downloads.
  */
@@ -30,4 +32,14 @@ public interface ResultStorageEngine {
      * @return returns the result associated with the AsyncQueryID
      */
     public Observable<String> getResultsByID(String asyncQueryID);
+
+    /**
+     * Opens the stored results of the async query as raw bytes, so downloads can be streamed
+     * (and resumed with range requests) without decoding each record.
+     * @param asyncQueryID is the query ID of the AsyncQuery
+     * @return channel over the stored bytes, or null if the engine does not support raw access.
+     */
+    default SeekableByteChannel getResultsChannelByID(String asyncQueryID) {
+        return null;
+    }
 }
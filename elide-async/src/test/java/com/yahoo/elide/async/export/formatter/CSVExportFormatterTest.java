@@ -24,7 +24,6 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.checks.Check;
-import com.yahoo.elide.jsonapi.models.Resource;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -85,18 +84,36 @@ public class CSVExportFormatterTest {
         resourceAttributes.put("queryType", queryObj.getQueryType());
         resourceAttributes.put("createdOn", queryObj.getCreatedOn());
 
-        Resource resource = new Resource("tableExport", "0", resourceAttributes, null, null, null);
-
-        PersistentResource persistentResource = mock(PersistentResource.class);
-        when(persistentResource.getObject()).thenReturn(queryObj);
-        when(persistentResource.getRequestScope()).thenReturn(scope);
-        when(persistentResource.toResource(any(), any())).thenReturn(resource);
-        when(scope.getEntityProjection()).thenReturn(projection);
+        PersistentResource persistentResource = mockResource(queryObj, projection, resourceAttributes);
 
         String output = formatter.format(persistentResource, 1);
         assertTrue(output.contains(row));
     }
 
+    @Test
+    public void testResourceToCSVEscaping() {
+        CSVExportFormatter formatter = new CSVExportFormatter(elide, false);
+        TableExport queryObj = new TableExport();
+        queryObj.setId("edc4a871-dff2-4054-804e-d80075cf827d");
+
+        // Prepare EntityProjection
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(TableExport.class).name("query").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("status").build());
+        attributes.add(Attribute.builder().type(TableExport.class).name("asyncAfterSeconds").build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        Map<String, Object> resourceAttributes = new LinkedHashMap<>();
+        resourceAttributes.put("query", "/book?filter=title==\"A, B\"");
+        resourceAttributes.put("status", null);
+        resourceAttributes.put("asyncAfterSeconds", 10);
+
+        PersistentResource persistentResource = mockResource(queryObj, projection, resourceAttributes);
+
+        String output = formatter.format(persistentResource, 1);
+        assertEquals("\"/book?filter=title==\"\"A, B\"\"\", , 10", output);
+    }
+
     @Test
     public void testNullResourceToCSV() {
         CSVExportFormatter formatter = new CSVExportFormatter(elide, false);
@@ -190,4 +207,15 @@ public class CSVExportFormatterTest {
         String output = formatter.preFormat(projection, queryObj);
         assertNull(output);
     }
+
+    private PersistentResource mockResource(TableExport queryObj, EntityProjection projection,
+            Map<String, Object> resourceAttributes) {
+        PersistentResource persistentResource = mock(PersistentResource.class);
+        when(persistentResource.getObject()).thenReturn(queryObj);
+        when(persistentResource.getRequestScope()).thenReturn(scope);
+        when(persistentResource.getAttribute(any(Attribute.class)))
+                .thenAnswer(invocation -> resourceAttributes.get(invocation.<Attribute>getArgument(0).getName()));
+        when(scope.getEntityProjection()).thenReturn(projection);
+        return persistentResource;
+    }
 }
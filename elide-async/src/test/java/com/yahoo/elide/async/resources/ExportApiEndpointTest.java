@@ -6,6 +6,9 @@
 package com.yahoo.elide.async.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -18,17 +21,26 @@ import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
 import io.reactivex.Observable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * ExportAPiEndpoint Test.
@@ -48,6 +60,7 @@ public class ExportApiEndpointTest {
         engine = mock(FileResultStorageEngine.class);
         asyncResponse = mock(AsyncResponse.class);
         response = mock(HttpServletResponse.class);
+        when(asyncResponse.resume(any(Response.class))).thenReturn(true);
     }
 
     @Test
@@ -59,7 +72,7 @@ public class ExportApiEndpointTest {
 
         exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
         endpoint = new ExportApiEndpoint(engine, exportApiProperties);
-        endpoint.get(queryId, response, asyncResponse);
+        endpoint.get(queryId, null, response, asyncResponse);
 
         // Timeout(int) succeeds as soon as the function to be verified is called.
         // It waits maximum upto value of "int" for function to be called.
@@ -69,4 +82,73 @@ public class ExportApiEndpointTest {
 
         assertEquals(res.getStatus(), 200);
     }
+
+    @Test
+    public void testGetRange(@TempDir Path tempDir) throws IOException {
+        String queryId = "2";
+        int maxDownloadTimeSeconds = 1;
+        int maxDownloadTimeMilliSeconds = (int) TimeUnit.SECONDS.toMillis(maxDownloadTimeSeconds);
+        Path file = tempDir.resolve(queryId);
+        Files.write(file, "hi\nhello\n".getBytes(StandardCharsets.UTF_8));
+        when(engine.getResultsChannelByID(queryId)).thenReturn(FileChannel.open(file, StandardOpenOption.READ));
+
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
+        endpoint = new ExportApiEndpoint(engine, exportApiProperties);
+        endpoint.get(queryId, "bytes=3-", response, asyncResponse);
+
+        verify(asyncResponse, timeout(maxDownloadTimeMilliSeconds)).resume(responseCaptor.capture());
+        final Response res = responseCaptor.getValue();
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 3-8/9", res.getHeaderString("Content-Range"));
+        assertEquals("6", res.getHeaderString("Content-Length"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) res.getEntity()).write(out);
+        assertEquals("hello\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGetRangeNotSatisfiable(@TempDir Path tempDir) throws IOException {
+        String queryId = "3";
+        int maxDownloadTimeSeconds = 1;
+        int maxDownloadTimeMilliSeconds = (int) TimeUnit.SECONDS.toMillis(maxDownloadTimeSeconds);
+        Path file = tempDir.resolve(queryId);
+        Files.write(file, "hi\n".getBytes(StandardCharsets.UTF_8));
+        when(engine.getResultsChannelByID(queryId)).thenReturn(FileChannel.open(file, StandardOpenOption.READ));
+
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), maxDownloadTimeSeconds);
+        endpoint = new ExportApiEndpoint(engine, exportApiProperties);
+        endpoint.get(queryId, "bytes=10-", response, asyncResponse);
+
+        verify(asyncResponse, timeout(maxDownloadTimeMilliSeconds)).resume(responseCaptor.capture());
+        final Response res = responseCaptor.getValue();
+
+        assertEquals(416, res.getStatus());
+        assertEquals("bytes */3", res.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    public void testGetRawResultsAfterTimeout(@TempDir Path tempDir) throws IOException, InterruptedException {
+        String queryId = "4";
+        int maxDownloadTimeSeconds = 1;
+        int maxDownloadTimeMilliSeconds = (int) TimeUnit.SECONDS.toMillis(maxDownloadTimeSeconds);
+        Path file = tempDir.resolve(queryId);
+        Files.write(file, "hi\n".getBytes(StandardCharsets.UTF_8));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        when(engine.getResultsChannelByID(queryId)).thenReturn(channel);
+
+        // The request has already timed out, so the response is never written.
+        when(asyncResponse.resume(any(Response.class))).thenReturn(false);
+
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        exportApiProperties = new ExportApiProperties(executor, maxDownloadTimeSeconds);
+        endpoint = new ExportApiEndpoint(engine, exportApiProperties);
+        endpoint.get(queryId, null, response, asyncResponse);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(maxDownloadTimeMilliSeconds, TimeUnit.MILLISECONDS));
+        verify(asyncResponse).resume(any(Response.class));
+        assertFalse(channel.isOpen());
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Test cases for ByteRangeResponse.
+ */
+public class ByteRangeResponseTest {
+
+    @Test
+    public void testFullResults(@TempDir Path tempDir) throws IOException {
+        FileChannel channel = open(tempDir, "hi\nhello\n");
+        ByteRangeResponse response = ByteRangeResponse.of(channel, null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeaders().get(ByteRangeResponse.ACCEPT_RANGES));
+        assertNull(response.getHeaders().get(ByteRangeResponse.CONTENT_RANGE));
+        assertTrue(response.hasBody());
+        assertEquals(9, response.getContentLength());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.write(out);
+        assertEquals("hi\nhello\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testPartialResults(@TempDir Path tempDir) throws IOException {
+        FileChannel channel = open(tempDir, "hi\nhello\n");
+        ByteRangeResponse response = ByteRangeResponse.of(channel, "bytes=3-");
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 3-8/9", response.getHeaders().get(ByteRangeResponse.CONTENT_RANGE));
+        assertEquals(6, response.getContentLength());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.write(out);
+        assertEquals("hello\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnsatisfiableRange(@TempDir Path tempDir) throws IOException {
+        FileChannel channel = open(tempDir, "hi\n");
+        ByteRangeResponse response = ByteRangeResponse.of(channel, "bytes=10-");
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */3", response.getHeaders().get(ByteRangeResponse.CONTENT_RANGE));
+        assertFalse(response.hasBody());
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testCloseWithoutWriting(@TempDir Path tempDir) throws IOException {
+        FileChannel channel = open(tempDir, "hi\n");
+        ByteRangeResponse response = ByteRangeResponse.of(channel, null);
+
+        response.close();
+        assertFalse(channel.isOpen());
+    }
+
+    private static FileChannel open(Path tempDir, String content) throws IOException {
+        Path file = tempDir.resolve("results");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+}
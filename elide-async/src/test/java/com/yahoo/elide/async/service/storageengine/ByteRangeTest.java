@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service.storageengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Test cases for ByteRange.
+ */
+public class ByteRangeTest {
+
+    @Test
+    public void testParse() {
+        assertNull(ByteRange.parse(null, 100));
+        assertNull(ByteRange.parse("bytes=0-10,20-30", 100));
+        assertNull(ByteRange.parse("items=0-10", 100));
+        assertNull(ByteRange.parse("bytes=a-b", 100));
+
+        ByteRange range = ByteRange.parse("bytes=10-19", 100);
+        assertEquals(10, range.getStart());
+        assertEquals(19, range.getEnd());
+        assertEquals(10, range.getLength());
+        assertEquals("bytes 10-19/100", range.toContentRange());
+
+        range = ByteRange.parse("bytes=90-", 100);
+        assertEquals(90, range.getStart());
+        assertEquals(99, range.getEnd());
+
+        range = ByteRange.parse("bytes=-5", 100);
+        assertEquals(95, range.getStart());
+        assertEquals(99, range.getEnd());
+
+        range = ByteRange.parse("bytes=50-500", 100);
+        assertEquals(99, range.getEnd());
+    }
+
+    @Test
+    public void testParseUnsatisfiable() {
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=100-", 100));
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=20-10", 100));
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=-0", 100));
+    }
+
+    @Test
+    public void testTransfer(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("results");
+        Files.write(file, "hi\nhello\n".getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteRange.full(channel.size()).transfer(channel, out);
+            assertEquals("hi\nhello\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+            out = new ByteArrayOutputStream();
+            ByteRange.parse("bytes=3-7", channel.size()).transfer(channel, out);
+            assertEquals("hello", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -14,7 +14,11 @@ import org.junit.jupiter.api.io.TempDir;
 import io.reactivex.Observable;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
 
 /**
  * Test cases for FileResultStorageEngine.
@@ -57,6 +61,65 @@ public class FileResultStorageEngineTest {
         assertEquals(finalResult, validOutput);
     }
 
+    @Test
+    public void testStoreResultsCompressed(@TempDir Path tempDir) throws IOException {
+        String queryId = "store_results_compressed";
+        String validOutput = "hi\nhello";
+        String[] input = validOutput.split("\n");
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), true, 2);
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResults(query, Observable.fromArray(input));
+
+        // stored file is gzip compressed.
+        byte[] stored = Files.readAllBytes(Paths.get(tempDir.toString(), queryId));
+        assertEquals((byte) 0x1f, stored[0]);
+        assertEquals((byte) 0x8b, stored[1]);
+
+        String finalResult = engine.getResultsByID(queryId).toList().blockingGet()
+                .stream().collect(Collectors.joining(System.lineSeparator()));
+        assertEquals(validOutput, finalResult);
+    }
+
+    @Test
+    public void testStoreResultsSmallChunks(@TempDir Path tempDir) {
+        String queryId = "store_results_small_chunks";
+        String validOutput = "first record\nsecond record\nthird record";
+        String[] input = validOutput.split("\n");
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), false, 4);
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResults(query, Observable.fromArray(input));
+
+        String finalResult = readResultsFile(tempDir.toString(), queryId);
+        assertEquals(validOutput, finalResult);
+    }
+
+    @Test
+    public void testStoreResultsMultiByteCharacters(@TempDir Path tempDir) {
+        String queryId = "store_results_multi_byte";
+        String validOutput = "caf\u00e9\n\u65e5\u672c\n\ud83d\ude00";
+        String[] input = validOutput.split("\n");
+
+        // Characters longer than a chunk are still written whole.
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), false, 1);
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResults(query, Observable.fromArray(input));
+
+        String finalResult = engine.getResultsByID(queryId).toList().blockingGet()
+                .stream().collect(Collectors.joining("\n"));
+        assertEquals(validOutput, finalResult);
+    }
+
+    @Test
+    public void testInvalidChunkSize(@TempDir Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FileResultStorageEngine(tempDir.toString(), false, 0));
+    }
+
     // O/P Directory does not exist.
     @Test
     public void testStoreResultsFail(@TempDir File tempDir) {
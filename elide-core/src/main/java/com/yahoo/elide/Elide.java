@@ -11,6 +11,7 @@ import com.yahoo.elide.core.audit.AuditLogger;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+import com.yahoo.elide.core.datastore.wrapped.BatchedRelationshipTransaction;
 import com.yahoo.elide.core.dictionary.Injector;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.CustomErrorException;
@@ -53,12 +54,14 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import java.util.stream.Collectors;
@@ -202,15 +205,79 @@ public class Elide {
                 return buildErrorResponse(e, false);
             }
         }
-        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestId, (tx, user) -> {
+        return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestId,
+                getHandler(baseUrlEndPoint, path, queryParams, requestHeaders, apiVersion, requestId, null));
+    }
+
+    /**
+     * Handle GET, sending the response to a stream.  Collections are written as they are loaded rather than
+     * built into a document first.  Once the body has started, the response code can no longer change, so
+     * a later failure leaves the body incomplete.
+     *
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param path the path
+     * @param queryParams the query params
+     * @param requestHeaders the request headers
+     * @param opaqueUser the opaque user
+     * @param apiVersion the API version
+     * @param requestId the request ID
+     * @param responseStream where the response is sent
+     * @return Elide response object.  Its body, if any, was already sent unless the request failed mid-stream.
+     * @throws IOException if the response cannot be sent
+     */
+    public ElideResponse get(String baseUrlEndPoint, String path, MultivaluedMap<String, String> queryParams,
+                             Map<String, List<String>> requestHeaders, User opaqueUser, String apiVersion,
+                             UUID requestId, ElideResponseStream responseStream) throws IOException {
+        AtomicBoolean sent = new AtomicBoolean();
+        ElideResponseStream sendOnce = (responseCode, body) -> {
+            sent.set(true);
+            responseStream.send(responseCode, body);
+        };
+
+        ElideResponse response = null;
+        if (elideSettings.isStrictQueryParams()) {
+            try {
+                verifyQueryParams(queryParams);
+            } catch (BadRequestException e) {
+                response = buildErrorResponse(e, false);
+            }
+        }
+        if (response == null) {
+            response = handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestId,
+                    getHandler(baseUrlEndPoint, path, queryParams, requestHeaders, apiVersion, requestId, sendOnce));
+        }
+
+        String body = response.getBody();
+        if (sent.get()) {
+            if (body != null) {
+                log.warn("Streamed response for {} failed after it was sent: {}", path, body);
+            }
+            return response;
+        }
+
+        responseStream.send(response.getResponseCode(),
+                body == null ? null : output -> output.write(body.getBytes(StandardCharsets.UTF_8)));
+        return response;
+    }
+
+    private Handler<DataStoreTransaction, User, HandlerResult> getHandler(String baseUrlEndPoint, String path,
+            MultivaluedMap<String, String> queryParams, Map<String, List<String>> requestHeaders,
+            String apiVersion, UUID requestId, ElideResponseStream responseStream) {
+        return (tx, user) -> {
             JsonApiDocument jsonApiDoc = new JsonApiDocument();
+
+            // Included relationships are fetched a level at a time, which lets sibling fetches be batched.
+            DataStoreTransaction scopeTx = queryParams != null && queryParams.containsKey("include")
+                    ? new BatchedRelationshipTransaction(tx)
+                    : tx;
             RequestScope requestScope = new RequestScope(baseUrlEndPoint, path, apiVersion, jsonApiDoc,
-                    tx, user, queryParams, requestHeaders, requestId, elideSettings);
+                    scopeTx, user, queryParams, requestHeaders, requestId, elideSettings);
+            requestScope.setResponseStream(responseStream);
             requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getDictionary(),
                     requestScope).parsePath(path));
             BaseVisitor visitor = new GetVisitor(requestScope);
             return visit(path, requestScope, visitor);
-        });
+        };
     }
 
     /**
@@ -457,6 +524,13 @@ public class Elide {
             RequestScope requestScope = result.getRequestScope();
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
             Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
+
+            // A streamed body loads as it is written, so it is written before the lifecycle phases run.
+            ElideResponse response = null;
+            if (requestScope.getResponseStream() != null) {
+                response = buildResponse(responder.get());
+            }
+
             tx.preCommit(requestScope);
             requestScope.runQueuedPreSecurityTriggers();
             requestScope.getPermissionExecutor().executeCommitChecks();
@@ -467,7 +541,9 @@ public class Elide {
 
             requestScope.runQueuedPreCommitTriggers();
 
-            ElideResponse response = buildResponse(responder.get());
+            if (response == null) {
+                response = buildResponse(responder.get());
+            }
 
             auditLogger.commit();
             tx.commit(requestScope);
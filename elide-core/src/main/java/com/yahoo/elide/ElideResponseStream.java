@@ -0,0 +1,26 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import java.io.IOException;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Sends a response body as it is written rather than as a finished string.
+ */
+@FunctionalInterface
+public interface ElideResponseStream {
+
+    /**
+     * Sends the response.  Called at most once per request and before the request's transaction completes, so
+     * the body must be written before this returns.
+     *
+     * @param responseCode HTTP response code
+     * @param body writes the response body (null if there is none)
+     * @throws IOException if the response cannot be sent
+     */
+    void send(int responseCode, StreamingOutput body) throws IOException;
+}
@@ -11,8 +11,10 @@ import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.graphql.FilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.JoinFilterDialect;
+import com.yahoo.elide.core.filter.dialect.jsonapi.MultipleFilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.SubqueryFilterDialect;
 import com.yahoo.elide.core.security.PermissionExecutor;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.utils.coerce.converters.Serde;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.links.JSONApiLinks;
@@ -47,4 +49,10 @@ public class ElideSettings {
     @Getter private final String jsonApiPath;
     @Getter private final String graphQLApiPath;
     @Getter private final String exportApiPath;
+    @Getter private final UserCheckCache userCheckCache;
+
+    // Shared by every request rather than rebuilt per RequestScope.
+    @Getter(lazy = true)
+    private final MultipleFilterDialect filterDialect =
+            new MultipleFilterDialect(joinFilterDialects, subqueryFilterDialects);
 }
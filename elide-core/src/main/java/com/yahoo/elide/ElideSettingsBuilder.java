@@ -18,6 +18,7 @@ import com.yahoo.elide.core.filter.dialect.jsonapi.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.jsonapi.SubqueryFilterDialect;
 import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.security.PermissionExecutor;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
 import com.yahoo.elide.core.security.executors.VerbosePermissionExecutor;
 import com.yahoo.elide.core.utils.coerce.converters.EpochToDateConverter;
@@ -57,6 +58,7 @@ public class ElideSettingsBuilder {
     private String jsonApiPath;
     private String graphQLApiPath;
     private String exportApiPath;
+    private UserCheckCache userCheckCache;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -112,7 +114,8 @@ public class ElideSettingsBuilder {
                 baseUrl,
                 jsonApiPath,
                 graphQLApiPath,
-                exportApiPath);
+                exportApiPath,
+                userCheckCache);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -221,4 +224,9 @@ public class ElideSettingsBuilder {
         this.strictQueryParams = enabled;
         return this;
     }
+
+    public ElideSettingsBuilder withUserCheckCache(UserCheckCache userCheckCache) {
+        this.userCheckCache = userCheckCache;
+        return this;
+    }
 }
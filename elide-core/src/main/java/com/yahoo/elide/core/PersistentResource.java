@@ -33,6 +33,7 @@ import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
 import com.yahoo.elide.core.filter.visitors.VerifyFieldAccessFilterExpressionVisitor;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
@@ -1067,6 +1068,10 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
                     dictionary.getJsonAliasFor(relationClass)));
         }
 
+        if (pagination.filter(KeysetPagination::isKeyset).isPresent()) {
+            throw new BadRequestException("Keyset pagination is only supported on root collections");
+        }
+
         return getRelationUnchecked(relationship);
     }
 
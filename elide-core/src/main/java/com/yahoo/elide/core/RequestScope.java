@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core;
 
+import com.yahoo.elide.ElideResponseStream;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.core.audit.AuditLogger;
@@ -16,7 +17,7 @@ import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.dialect.jsonapi.MultipleFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.CRUDEvent;
-import com.yahoo.elide.core.lifecycle.LifecycleHookInvoker;
+import com.yahoo.elide.core.lifecycle.LifecycleEventBuffer;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.PermissionExecutor;
@@ -26,9 +27,6 @@ import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import org.apache.commons.collections.MapUtils;
-import io.reactivex.Observable;
-import io.reactivex.subjects.PublishSubject;
-import io.reactivex.subjects.ReplaySubject;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -74,11 +72,16 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     //TODO - this ought to be read only and set in the constructor.
     @Getter @Setter private EntityProjection entityProjection;
     @Getter private final UUID requestId;
+
+    // Set when the response may be streamed rather than built as a document.
+    @Getter @Setter private ElideResponseStream responseStream;
     private final Map<String, FilterExpression> expressionsByType;
 
-    private PublishSubject<CRUDEvent> lifecycleEvents;
-    private Observable<CRUDEvent> distinctLifecycleEvents;
-    private ReplaySubject<CRUDEvent> queuedLifecycleEvents;
+    // Scope which owns the lifecycle events of the request.  Nested scopes share the events of their outer scope.
+    private final RequestScope lifecycleEventScope;
+
+    // Created by the first event with lifecycle hooks.  Null while there is none.
+    private LifecycleEventBuffer lifecycleEvents;
 
     /* Used to filter across heterogeneous types during the first load */
     private FilterExpression globalFilterExpression;
@@ -107,10 +110,6 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
                         UUID requestId,
                         ElideSettings elideSettings) {
         this.apiVersion = apiVersion;
-        this.lifecycleEvents = PublishSubject.create();
-        this.distinctLifecycleEvents = lifecycleEvents.distinct();
-        this.queuedLifecycleEvents = ReplaySubject.create();
-        this.distinctLifecycleEvents.subscribe(queuedLifecycleEvents);
 
         this.path = path;
         this.baseUrlEndPoint = baseUrlEndPoint;
@@ -118,10 +117,10 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.transaction = transaction;
         this.user = user;
         this.dictionary = elideSettings.getDictionary();
+        this.lifecycleEventScope = this;
         this.mapper = elideSettings.getMapper();
         this.auditLogger = elideSettings.getAuditLogger();
-        this.filterDialect = new MultipleFilterDialect(elideSettings.getJoinFilterDialects(),
-                elideSettings.getSubqueryFilterDialects());
+        this.filterDialect = elideSettings.getFilterDialect();
         this.elideSettings = elideSettings;
         this.updateStatusCode = elideSettings.getUpdateStatusCode();
 
@@ -146,7 +145,6 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.requestHeaders = MapUtils.isEmpty(requestHeaders)
                 ? Collections.emptyMap()
                 : requestHeaders;
-        registerPreSecurityObservers();
 
         if (this.queryParams.isPresent()) {
 
@@ -220,10 +218,8 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.filterDialect = outerRequestScope.filterDialect;
         this.expressionsByType = outerRequestScope.expressionsByType;
         this.elideSettings = outerRequestScope.elideSettings;
-        this.lifecycleEvents = outerRequestScope.lifecycleEvents;
-        this.distinctLifecycleEvents = outerRequestScope.distinctLifecycleEvents;
+        this.lifecycleEventScope = outerRequestScope.lifecycleEventScope;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
-        this.queuedLifecycleEvents = outerRequestScope.queuedLifecycleEvents;
         this.requestId = outerRequestScope.requestId;
         this.headers = outerRequestScope.headers;
     }
@@ -332,78 +328,43 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
      * Run queued pre-security lifecycle triggers.
      */
     public void runQueuedPreSecurityTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.PRESECURITY, false))
-                .throwOnError();
+        LifecycleEventBuffer events = lifecycleEventScope.lifecycleEvents;
+        if (events == null) {
+            return;
+        }
+        events.dispatch(LifeCycleHookBinding.Operation.CREATE, LifeCycleHookBinding.TransactionPhase.PRESECURITY);
     }
 
     /**
      * Run queued pre-commit lifecycle triggers.
      */
     public void runQueuedPreCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.PRECOMMIT, false))
-                .throwOnError();
+        runQueuedTriggers(LifeCycleHookBinding.TransactionPhase.PRECOMMIT);
     }
 
     /**
      * Run queued post-commit lifecycle triggers.
      */
     public void runQueuedPostCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.CREATE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.POSTCOMMIT, false))
-                .throwOnError();
+        runQueuedTriggers(LifeCycleHookBinding.TransactionPhase.POSTCOMMIT);
+    }
+
+    private void runQueuedTriggers(LifeCycleHookBinding.TransactionPhase phase) {
+        LifecycleEventBuffer events = lifecycleEventScope.lifecycleEvents;
+        if (events == null) {
+            return;
+        }
+        events.dispatch(LifeCycleHookBinding.Operation.CREATE, phase);
+        events.dispatch(LifeCycleHookBinding.Operation.UPDATE, phase);
+        events.dispatch(LifeCycleHookBinding.Operation.DELETE, phase);
+        events.dispatch(LifeCycleHookBinding.Operation.READ, phase);
+    }
+
+    private LifecycleEventBuffer getLifecycleEvents() {
+        if (lifecycleEventScope.lifecycleEvents == null) {
+            lifecycleEventScope.lifecycleEvents = new LifecycleEventBuffer(dictionary);
+        }
+        return lifecycleEventScope.lifecycleEvents;
     }
 
     /**
@@ -413,7 +374,10 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
      * @param crudAction CRUD action
      */
     protected void publishLifecycleEvent(PersistentResource<?> resource, LifeCycleHookBinding.Operation crudAction) {
-        lifecycleEvents.onNext(
+        if (!dictionary.hasTriggers(resource.getResourceType())) {
+            return;
+        }
+        getLifecycleEvents().add(
                     new CRUDEvent(crudAction, resource, PersistentResource.CLASS_NO_FIELD, Optional.empty())
         );
     }
@@ -430,7 +394,10 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
                                          String fieldName,
                                          LifeCycleHookBinding.Operation crudAction,
                                          Optional<ChangeSpec> changeSpec) {
-        lifecycleEvents.onNext(
+        if (!dictionary.hasTriggers(resource.getResourceType())) {
+            return;
+        }
+        getLifecycleEvents().add(
                     new CRUDEvent(crudAction, resource, fieldName, changeSpec)
         );
     }
@@ -480,27 +447,6 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         return subClass + "!" + superClass;
     }
 
-    private void registerPreSecurityObservers() {
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.READ,
-                        LifeCycleHookBinding.TransactionPhase.PRESECURITY, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.UPDATE,
-                        LifeCycleHookBinding.TransactionPhase.PRESECURITY, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary,
-                        LifeCycleHookBinding.Operation.DELETE,
-                        LifeCycleHookBinding.TransactionPhase.PRESECURITY, true));
-    }
-
     @Override
     public String getRequestHeaderByName(String headerName) {
         if (this.requestHeaders.get(headerName) == null) {
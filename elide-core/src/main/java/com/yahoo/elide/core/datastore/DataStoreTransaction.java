@@ -20,7 +20,10 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 /**
@@ -180,6 +183,32 @@ public interface DataStoreTransaction extends Closeable {
         return (R) PersistentResource.getValue(entity, relationship.getName(), scope);
     }
 
+    /**
+     * Retrieve the same relation from several objects at once.  Stores which can fetch a relation for many
+     * owners in a single round trip should override this.  By default, the relation is fetched for each owner
+     * in turn.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the object in the relation of each owner, keyed by owner
+     */
+    default <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, R> relations = new IdentityHashMap<>();
+        for (T entity : entities) {
+            relations.put(entity, getRelation(relationTx, entity, relationship, scope));
+        }
+        return relations;
+    }
+
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
      * These functions allow a data store to optionally persist the relationship if needed.
@@ -14,6 +14,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterPredicatePushdownExtractor;
 import com.yahoo.elide.core.filter.expression.InMemoryExecutionVerifier;
 import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
@@ -25,12 +26,16 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -99,6 +104,37 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, Optional.of(entity), relationship.getProjection(), filterInMemory, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx,
+                                         Collection<T> entities,
+                                         Relationship relationship,
+                                         RequestScope scope) {
+        EntityProjection projection = relationship.getProjection();
+
+        /*
+         * The relations can only be loaded together when the store does all of the filtering, sorting & paging.
+         * Otherwise each parent is loaded on its own so the remaining work can be done in memory.
+         */
+        if (scope.getNewPersistentResources().size() > 0
+                || !entities.stream().allMatch(entity -> isPushedDown(Optional.of(entity), projection, scope))) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relationship, scope);
+        }
+
+        Map<T, R> relations = tx.getRelations(relationTx, entities, relationship, scope);
+
+        Pagination pagination = projection.getPagination();
+        if (pagination == null || !pagination.isDefaultInstance()) {
+            return relations;
+        }
+
+        // The store may ignore default pagination, so it is also applied in memory.
+        Map<T, R> paged = new IdentityHashMap<>();
+        relations.forEach((entity, relation) -> paged.put(entity, relation instanceof Iterable
+                ? (R) paginateInMemory((Iterable<Object>) relation, pagination)
+                : relation));
+        return paged;
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -246,6 +282,10 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
         }
 
+        // The store did not page, so it did not seek either.
+        if (inMemoryPagination.filter(KeysetPagination::isKeyset).isPresent()) {
+            return seekInMemory(loadedRecords, projection, inMemoryPagination.get(), scope);
+        }
 
         return sortAndPaginateLoadedData(
                     loadedRecords,
@@ -273,78 +313,182 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         if (sortRules.isEmpty() && ! pagination.isPresent()) {
             return loadedRecords;
         }
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
 
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+        if (sortRules.isEmpty()) {
+            return paginateInMemory(loadedRecords, pagination.get());
         }
 
-        if (pagination.isPresent()) {
-            results = paginateInMemory(results, pagination.get());
-        }
+        return sortInMemory(loadedRecords, sortRules, pagination, scope);
+    }
 
-        return results;
+    private boolean isPushedDown(Optional<Object> parent, EntityProjection projection, RequestScope scope) {
+        boolean filteredInMemory = splitFilterExpression(scope, parent, projection, false).getRight().isPresent();
+        boolean sortedInMemory = splitSorting(scope, parent, projection, filteredInMemory).getRight().isPresent();
+        Optional<Pagination> inMemoryPagination =
+                splitPagination(scope, parent, projection, filteredInMemory, sortedInMemory).getRight();
+
+        return !filteredInMemory
+                && !sortedInMemory
+                && inMemoryPagination.map(Pagination::isDefaultInstance).orElse(true);
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
-        int offset = pagination.getOffset();
-        int limit = pagination.getLimit();
-        if (offset < 0 || offset >= records.size()) {
-            return Collections.emptyList();
+    /**
+     * Pages through unsorted records.  Only the requested page is copied, and the records are only read to the
+     * end when page totals are requested.
+     */
+    private List<Object> paginateInMemory(Iterable<Object> records, Pagination pagination) {
+        long end = (long) pagination.getOffset() + pagination.getLimit();
+        List<Object> page = new ArrayList<>();
+        int total = 0;
+        for (Object record : records) {
+            if (total >= pagination.getOffset() && total < end) {
+                page.add(record);
+            }
+            total++;
+            if (total >= end && ! pagination.returnPageTotals()) {
+                break;
+            }
         }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
+        return getPage(page, pagination.getOffset(), total, pagination);
+    }
+
+    /**
+     * Pages through records by their keyset.  The records after the requested cursor are sorted by the key of the
+     * collection and the page is read from the first of them.  Page totals count every record.
+     */
+    private List<Object> seekInMemory(Iterable<Object> records,
+                                      EntityProjection projection,
+                                      Pagination pagination,
+                                      RequestScope scope) {
+        Map<Path, Sorting.SortOrder> key = KeysetPagination.getKey(projection, scope.getDictionary());
+        FilterExpression seekExpression = KeysetPagination.getSeekExpression(pagination, key);
+        Predicate seek = seekExpression == null
+                ? record -> true
+                : seekExpression.accept(new InMemoryFilterExecutor(scope));
+
+        List<Object> after = new ArrayList<>();
+        int total = 0;
+        for (Object record : records) {
+            total++;
+            if (seek.test(record)) {
+                after.add(record);
+            }
         }
 
+        List<Object> page = sortInMemory(after, key, Optional.of(pagination), scope);
         if (pagination.returnPageTotals()) {
-            pagination.setPageTotals((long) records.size());
+            pagination.setPageTotals((long) total);
         }
-        return records.subList(offset, endIdx);
+        pagination.setNextCursor(KeysetPagination.getNextCursor(page, pagination.getLimit(), key, scope));
+        return page;
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
+    /**
+     * Sorts records by keys which are read once per record.  When paginating, only the records up to the end of
+     * the requested page are kept, in a bounded heap.
+     */
+    private List<Object> sortInMemory(Iterable<Object> records,
+                                      Map<Path, Sorting.SortOrder> sortRules,
+                                      Optional<Pagination> pagination,
+                                      RequestScope scope) {
+        List<Path> paths = new ArrayList<>(sortRules.keySet());
+        Comparator<SortKey> comparator = getComparator(new ArrayList<>(sortRules.values()));
+
+        long keep = pagination.map(page -> (long) page.getOffset() + page.getLimit()).orElse(Long.MAX_VALUE);
+
+        List<SortKey> sorted;
+        int total = 0;
+        if (keep < Integer.MAX_VALUE) {
+            // The heap root is the worst record kept so far.
+            PriorityQueue<SortKey> heap = new PriorityQueue<>((int) Math.min(keep, 1024) + 1,
+                    comparator.reversed());
+            for (Object record : records) {
+                SortKey key = new SortKey(record, getSortValues(record, paths, scope), total++);
+                if (heap.size() < keep) {
+                    heap.add(key);
+                } else if (comparator.compare(key, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(key);
                 }
-                return comparison;
-            });
+            }
+            sorted = new ArrayList<>(heap);
+        } else {
+            sorted = new ArrayList<>();
+            for (Object record : records) {
+                sorted.add(new SortKey(record, getSortValues(record, paths, scope), total++));
+            }
+        }
+
+        sorted.sort(comparator);
+        List<Object> results = sorted.stream().map(key -> key.record).collect(Collectors.toList());
 
-        records.sort(comp);
-        return records;
+        if (pagination.isPresent()) {
+            int offset = pagination.get().getOffset();
+            return getPage(offset < 0 || offset >= results.size()
+                    ? Collections.emptyList()
+                    : results.subList(offset, results.size()), offset, total, pagination.get());
+        }
+        return results;
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    private static List<Object> getPage(List<Object> page, int offset, int total, Pagination pagination) {
+        if (offset < 0 || offset >= total) {
+            return Collections.emptyList();
+        }
+
+        if (pagination.returnPageTotals()) {
+            pagination.setPageTotals((long) total);
+        }
+        return page;
+    }
+
+    private static Object[] getSortValues(Object record, List<Path> paths, RequestScope requestScope) {
+        Object[] values = new Object[paths.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = record;
 
             // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+            for (Path.PathElement pathElement : paths.get(i).getPathElements()) {
+                value = (value == null ? null
+                        : PersistentResource.getValue(value, pathElement.getFieldName(), requestScope));
             }
+            values[i] = value;
+        }
+        return values;
+    }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
+    private static Comparator<SortKey> getComparator(List<Sorting.SortOrder> orders) {
+        return (left, right) -> {
+            for (int i = 0; i < orders.size(); i++) {
+                int comparison = orders.get(i) == Sorting.SortOrder.asc
+                        ? NULL_SAFE_COMPARE.compare(left.values[i], right.values[i])
+                        : NULL_SAFE_COMPARE.compare(right.values[i], left.values[i]);
+                if (comparison != 0) {
+                    return comparison;
+                }
             }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
+
+            // Ties keep the order in which records were loaded.
+            return Integer.compare(left.index, right.index);
         };
     }
 
+    /**
+     * A record along with the values it is sorted by.
+     */
+    private static final class SortKey {
+        private final Object record;
+        private final Object[] values;
+        private final int index;
+
+        SortKey(Object record, Object[] values, int index) {
+            this.record = record;
+            this.values = values;
+            this.index = index;
+        }
+    }
+
     /**
      * Splits a filter expression into two components:
      *  - a component that should be pushed down to the data store
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.wrapped;
+
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.request.Relationship;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps the transaction of a request so that sibling fetches of a relationship are batched.
+ * <p>
+ * Objects returned together (in one GraphQL connection or one level of JSON-API includes) are siblings.
+ * When a relationship is fetched for one of them, the same relationship is fetched for all of them with a single
+ * {@link DataStoreTransaction#getRelations(DataStoreTransaction, Collection, Relationship, RequestScope)} call,
+ * and the results are handed out as the request walks the remaining siblings.
+ */
+public class BatchedRelationshipTransaction extends TransactionWrapper {
+
+    // Sibling group of each fetched object, by identity.
+    private final Map<Object, SiblingGroup> siblingGroups = new IdentityHashMap<>();
+
+    public BatchedRelationshipTransaction(DataStoreTransaction tx) {
+        super(tx);
+    }
+
+    /**
+     * Registers objects which were fetched together.
+     * @param resources The fetched objects.
+     */
+    public void addSiblings(Collection<PersistentResource> resources) {
+        if (resources.size() < 2) {
+            return;
+        }
+
+        SiblingGroup group = new SiblingGroup(resources.stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toList()));
+
+        group.entities.forEach(entity -> siblingGroups.put(entity, group));
+    }
+
+    /**
+     * Forgets all siblings and any relationships loaded for them.  Called once objects may have been modified.
+     */
+    public void clearSiblings() {
+        siblingGroups.clear();
+    }
+
+    @Override
+    public <T, R> R getRelation(DataStoreTransaction relationTx, T entity,
+                                Relationship relationship, RequestScope scope) {
+        SiblingGroup group = siblingGroups.get(entity);
+        if (group == null) {
+            return tx.getRelation(relationTx, entity, relationship, scope);
+        }
+
+        Map<Object, Object> relations = group.loaded.get(relationship);
+        if (relations == null) {
+            relations = new IdentityHashMap<>();
+            Map<Object, Object> loaded = tx.getRelations(relationTx, group.entities, relationship, scope);
+            if (loaded != null) {
+                relations.putAll(loaded);
+            }
+            group.loaded.put(relationship, relations);
+        }
+
+        // Each loaded relation is handed out once.  Asking again goes back to the store.
+        if (relations.containsKey(entity)) {
+            return (R) relations.remove(entity);
+        }
+        return tx.getRelation(relationTx, entity, relationship, scope);
+    }
+
+    /**
+     * Objects fetched together, along with the relationships loaded for all of them.
+     */
+    private static final class SiblingGroup {
+        private final List<Object> entities;
+        private final Map<Relationship, Map<Object, Object>> loaded = new HashMap<>();
+
+        SiblingGroup(List<Object> entities) {
+            this.entities = entities;
+        }
+    }
+}
@@ -20,9 +20,12 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.exceptions.DuplicateMappingException;
 import com.yahoo.elide.core.lifecycle.LifeCycleHook;
 import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Field;
+import com.yahoo.elide.core.type.FieldType;
 import com.yahoo.elide.core.type.Member;
 import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.MethodType;
 import com.yahoo.elide.core.type.Type;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
@@ -32,6 +35,7 @@ import org.apache.commons.lang3.tuple.Triple;
 import lombok.Getter;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -71,6 +75,18 @@ public class EntityBinding {
             Arrays.asList(ManyToMany.class, ManyToOne.class, OneToMany.class, OneToOne.class,
                     ToOne.class, ToMany.class);
 
+    /**
+     * Type of the bound getters: (entity)value.
+     */
+    public static final java.lang.invoke.MethodType GETTER_TYPE =
+            java.lang.invoke.MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Type of the bound setters: (entity, value)void.
+     */
+    public static final java.lang.invoke.MethodType SETTER_TYPE =
+            java.lang.invoke.MethodType.methodType(void.class, Object.class, Object.class);
+
     @Getter
     public final Type<?> entityClass;
     @Getter
@@ -112,6 +128,9 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, Type<?>> fieldsToTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, String> aliasesToFields = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, MethodHandle> fieldsToGetters = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, MethodHandle> fieldsToSetters = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, Class<?>> fieldsToSetterTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<AccessibleObject, Set<ArgumentType>> attributeArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, ArgumentType> entityArguments = new ConcurrentHashMap<>();
 
@@ -200,6 +219,7 @@ public class EntityBinding {
         }
 
         bindEntityFields(cls, type, fieldOrMethodList, hiddenAnnotations);
+        bindAccessors(cls);
         bindTriggerIfPresent();
 
         apiAttributes = dequeToList(attributesDeque);
@@ -327,6 +347,60 @@ public class EntityBinding {
         }
     }
 
+    /**
+     * Bind method handles which read and write the fields of an entity, so that they are not looked up on every
+     * call.  Getters are adapted to {@link #GETTER_TYPE} and setters to {@link #SETTER_TYPE} so that they can be
+     * invoked exactly.  Fields of dynamic types, request scoped computed fields and members which cannot be looked
+     * up get no handle and are still accessed reflectively.
+     *
+     * @param cls Class type to bind accessors
+     */
+    private void bindAccessors(Type<?> cls) {
+        if (!(cls instanceof ClassType)) {
+            return;
+        }
+
+        fieldsToValues.forEach((fieldName, fieldOrMethod) -> {
+            try {
+                if (fieldOrMethod instanceof FieldType) {
+                    fieldsToGetters.put(fieldName, ((FieldType) fieldOrMethod).getGetter().asType(GETTER_TYPE));
+                } else if (fieldOrMethod instanceof MethodType
+                        && ((MethodType) fieldOrMethod).getParameterCount() == 0) {
+                    fieldsToGetters.put(fieldName, ((MethodType) fieldOrMethod).getHandle().asType(GETTER_TYPE));
+                }
+            } catch (IllegalAccessException e) {
+                // Read reflectively
+            }
+        });
+
+        fieldsToTypes.forEach((fieldName, fieldType) -> {
+            if (!(fieldType instanceof ClassType)) {
+                return;
+            }
+            try {
+                Method setter = EntityDictionary.findMethod(cls, "set" + StringUtils.capitalize(fieldName),
+                        fieldType);
+                if (setter instanceof MethodType) {
+                    bindSetter(fieldName, ((MethodType) setter).getHandle());
+                }
+            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException noMethod) {
+                AccessibleObject fieldOrMethod = fieldsToValues.get(fieldName);
+                if (fieldOrMethod instanceof FieldType) {
+                    try {
+                        bindSetter(fieldName, ((FieldType) fieldOrMethod).getSetter());
+                    } catch (IllegalAccessException noField) {
+                        // Written reflectively
+                    }
+                }
+            }
+        });
+    }
+
+    private void bindSetter(String fieldName, MethodHandle setter) {
+        fieldsToSetterTypes.put(fieldName, setter.type().parameterType(1));
+        fieldsToSetters.put(fieldName, setter.asType(SETTER_TYPE));
+    }
+
     /**
      * Convert a deque to a list.
      *
@@ -571,6 +645,26 @@ public class EntityBinding {
         bindTrigger(binding.operation(), binding.phase(), hook);
     }
 
+    /**
+     * Whether any lifecycle hook is bound to this entity (or any of its fields).
+     * @return true if the entity has lifecycle hooks.
+     */
+    public boolean hasTriggers() {
+        return !fieldTriggers.isEmpty() || !classTriggers.isEmpty();
+    }
+
+    /**
+     * Whether any lifecycle hook is bound to this entity (or any of its fields) for an operation and phase.
+     * @param op The operation
+     * @param phase The transaction phase
+     * @return true if the entity has lifecycle hooks for the operation and phase.
+     */
+    public boolean hasTriggers(Operation op, TransactionPhase phase) {
+        return classTriggers.containsKey(Pair.of(op, phase))
+                || fieldTriggers.keySet().stream()
+                        .anyMatch(key -> key.getMiddle() == op && key.getRight() == phase);
+    }
+
     public <A extends Annotation> Collection<LifeCycleHook> getTriggers(Operation op,
                                                                         TransactionPhase phase,
                                                                         String fieldName) {
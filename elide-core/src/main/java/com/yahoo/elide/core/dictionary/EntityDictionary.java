@@ -42,6 +42,7 @@ import com.yahoo.elide.core.security.checks.UserCheck;
 import com.yahoo.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.yahoo.elide.core.security.permissions.PermissionExpressionTemplate;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Dynamic;
@@ -58,6 +59,7 @@ import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.primitives.Primitives;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -66,6 +68,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
@@ -75,6 +78,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -112,6 +116,9 @@ public class EntityDictionary {
     protected final ConcurrentHashMap<Type<?>, List<Type<?>>> subclassingEntities = new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
     protected final Map<String, UserCheck> roleChecks;
+    protected final Map<UserCheck, String> roleCheckIdentifiers = new IdentityHashMap<>();
+    protected final ConcurrentHashMap<ParseTree, PermissionExpressionTemplate> permissionTemplates =
+            new ConcurrentHashMap<>();
 
     @Getter
     protected final Set<String> apiVersions;
@@ -254,6 +261,7 @@ public class EntityDictionary {
      */
     public void addRoleCheck(String role, UserCheck check) {
         roleChecks.put(role, check);
+        roleCheckIdentifiers.put(check, role);
     }
 
     /**
@@ -414,6 +422,21 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled template of a permission ParseTree.  Each ParseTree is compiled once and its template is
+     * shared by every request.
+     *
+     * @param permissions the permission ParseTree (may be null)
+     * @return the compiled template or {@code null} if there are no permissions
+     */
+    public PermissionExpressionTemplate getPermissionTemplate(ParseTree permissions) {
+        if (permissions == null) {
+            return null;
+        }
+        return permissionTemplates.computeIfAbsent(permissions,
+                tree -> PermissionExpressionTemplate.compile(tree, this));
+    }
+
     /**
      * Returns the check mapped to a particular identifier.
      *
@@ -483,6 +506,17 @@ public class EntityDictionary {
         return checkClass.getName();
     }
 
+    /**
+     * Returns the friendly name of a check instance: the role it was added for if it is a role check, the name mapped
+     * to its class otherwise.
+     * @param check The check to lookup
+     * @return the friendly name of the check.
+     */
+    public String getCheckIdentifier(Check check) {
+        String identifier = roleCheckIdentifiers.get(check);
+        return identifier != null ? identifier : getCheckIdentifier(check.getClass());
+    }
+
     /**
      * Returns the name of the id field.
      *
@@ -1063,6 +1097,26 @@ public class EntityDictionary {
         return getEntityBinding(recordClass).getMethodAnnotation(annotationClass, method);
     }
 
+    /**
+     * Whether any lifecycle hook is bound to an entity (or any of its fields).
+     * @param cls The entity type
+     * @return true if the entity has lifecycle hooks.
+     */
+    public boolean hasTriggers(Type<?> cls) {
+        return getEntityBinding(cls).hasTriggers();
+    }
+
+    /**
+     * Whether any lifecycle hook is bound to an entity (or any of its fields) for an operation and phase.
+     * @param cls The entity type
+     * @param op The operation
+     * @param phase The transaction phase
+     * @return true if the entity has lifecycle hooks for the operation and phase.
+     */
+    public boolean hasTriggers(Type<?> cls, Operation op, TransactionPhase phase) {
+        return getEntityBinding(cls).hasTriggers(op, phase);
+    }
+
     public <A extends Annotation> Collection<LifeCycleHook> getTriggers(Type<?> cls,
             Operation op,
             TransactionPhase phase,
@@ -1601,7 +1655,17 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        EntityBinding binding = getEntityBinding(getType(target));
+        MethodHandle getter = binding.fieldsToGetters.get(fieldName);
+        if (getter != null) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw handleAccessorException(e, e);
+            }
+        }
+
+        AccessibleObject accessor = binding.fieldsToValues.get(fieldName);
         try {
             if (accessor instanceof Method) {
                 // Pass RequestScope into @Computed fields if requested
@@ -1638,6 +1702,22 @@ public class EntityDictionary {
      */
     public void setValue(Object target, String fieldName, Object value) {
         Type<?> targetClass = getType(target);
+
+        EntityBinding binding = getEntityBinding(targetClass);
+        MethodHandle setter = binding.fieldsToSetters.get(fieldName);
+        if (setter != null) {
+            Class<?> parameterType = binding.fieldsToSetterTypes.get(fieldName);
+            Object coerced = coerce(target, value, fieldName, ClassType.of(parameterType));
+            if (coerced == null ? !parameterType.isPrimitive() : Primitives.wrap(parameterType).isInstance(coerced)) {
+                try {
+                    setter.invokeExact(target, coerced);
+                } catch (Throwable e) {
+                    throw handleAccessorException(e, e);
+                }
+                return;
+            }
+        }
+
         String targetType = getJsonAliasFor(targetClass);
 
         String fieldAlias = fieldName;
@@ -1674,12 +1754,22 @@ public class EntityDictionary {
      * @return Equivalent runtime exception
      */
     private static RuntimeException handleInvocationTargetException(InvocationTargetException e) {
-        Throwable exception = e.getTargetException();
+        return handleAccessorException(e.getTargetException(), e);
+    }
+
+    /**
+     * Handle an exception thrown by an object's getter, setter or field.
+     *
+     * @param exception Exception thrown by the accessor
+     * @param cause Exception to report as the cause of an internal server error
+     * @return Equivalent runtime exception
+     */
+    private static RuntimeException handleAccessorException(Throwable exception, Throwable cause) {
         if (exception instanceof HttpStatusException || exception instanceof WebApplicationException) {
             return (RuntimeException) exception;
         }
-        log.error("Caught an unexpected exception (rethrowing as internal server error)", e);
-        return new InternalServerErrorException("Unexpected exception caught", e);
+        log.error("Caught an unexpected exception (rethrowing as internal server error)", cause);
+        return new InternalServerErrorException("Unexpected exception caught", cause);
     }
 
     /**
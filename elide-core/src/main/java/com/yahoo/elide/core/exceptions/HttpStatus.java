@@ -13,11 +13,13 @@ public class HttpStatus {
     public static final int SC_OK = 200;
     public static final int SC_CREATED = 201;
     public static final int SC_NO_CONTENT = 204;
+    public static final int SC_PARTIAL_CONTENT = 206;
     public static final int SC_BAD_REQUEST = 400;
     public static final int SC_FORBIDDEN = 403;
     public static final int SC_NOT_FOUND = 404;
     public static final int SC_METHOD_NOT_ALLOWED = 405;
     public static final int SC_TIMEOUT = 408;
+    public static final int SC_REQUESTED_RANGE_NOT_SATISFIABLE = 416;
     public static final int SC_LOCKED = 423;
     public static final int SC_INTERNAL_SERVER_ERROR = 500;
 }
@@ -13,6 +13,7 @@ import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.google.common.base.Suppliers;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -20,16 +21,18 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Operator enum for predicates.
@@ -53,14 +56,14 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope, FOLD_CASE).negate();
         }
     },
 
@@ -116,7 +119,7 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            return Operator.<T>isNull(fieldPath, requestScope).negate();
         }
     },
 
@@ -173,7 +176,7 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            return Operator.<T>isEmpty(fieldPath, requestScope).negate();
         }
     },
 
@@ -187,19 +190,19 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !hasMember(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>hasMember(fieldPath, values, requestScope).negate();
         }
     },
     BETWEEN("between", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> between(fieldPath, values, requestScope).test(entity);
+            return between(fieldPath, values, requestScope);
         }
     },
     NOTBETWEEN("notbetween", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !between(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>between(fieldPath, values, requestScope).negate();
         }
     };
 
@@ -251,102 +254,76 @@ public enum Operator {
     //
     // Predicate generation
     //
+    // Predicates resolve their field path and coerce their values once, when first tested, rather than for
+    // every entity they are tested against.
+    //
 
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
-        return (T entity) -> {
-            BiPredicate predicate = (a, b) -> a.equals(b);
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return evaluate(fieldPath, values, UnaryOperator.identity(), Object::equals, requestScope);
     }
 
     //
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-
-            BiPredicate predicate = (a, b) -> {
-                if (!a.getClass().isAssignableFrom(String.class)) {
-                    throw new IllegalStateException("Cannot case insensitive compare non-string values");
-                }
-
-                String lhs = transform.apply((String) a);
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs.equals(rhs);
-            };
+        BiPredicate<Object, Object> predicate = (a, b) -> {
+            if (!a.getClass().isAssignableFrom(String.class)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            return transform.apply((String) a).equals(b);
         };
+
+        return evaluate(fieldPath, values, b -> transform.apply(CoerceUtil.coerce(b, String.class)),
+                predicate, requestScope);
     }
 
     //
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("PREFIX", fieldPath, values, requestScope, transform, String::startsWith);
     }
 
     //
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("POSTFIX", fieldPath, values, requestScope, transform, String::endsWith);
     }
 
     //
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
+        return match("INFIX", fieldPath, values, requestScope, transform, String::contains);
+    }
+
+    private static <T> Predicate<T> match(String operatorName, Path fieldPath, List<Object> values,
+            RequestScope requestScope, UnaryOperator<String> transform, BiPredicate<String, String> matcher) {
+        Predicate<T> predicate = evaluate(fieldPath, values,
+                b -> transform.apply(CoerceUtil.coerce(b, String.class)),
+                (a, b) -> {
+                    String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
+                    return lhs != null && b != null && matcher.test(lhs, (String) b);
+                },
+                requestScope);
+
         return (T entity) -> {
             if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
+                throw new BadRequestException(operatorName + " can only take one argument");
             }
-
-            BiPredicate predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            return predicate.test(entity);
         };
     }
 
     //
     // Null checking
     private static <T> Predicate<T> isNull(Path fieldPath, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, fieldPath, requestScope) == null;
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
+        return (T entity) -> accessor.getValue(entity) == null;
     }
 
     private static <T> Predicate<T> lt(Path fieldPath, List<Object> values, RequestScope requestScope) {
@@ -366,19 +343,22 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> between(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
+        ComparableValues bounds = new ComparableValues(values);
         return (T entity) -> {
             if (values.size() != 2) {
                 throw new BadRequestException("Between operator expects exactly 2 values");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldVal = accessor.getValue(entity);
 
-            if (fieldVal instanceof Collection) {
+            if (fieldVal == null || fieldVal instanceof Collection) {
                 return false;
             }
 
-            return fieldVal != null
-                    && compare(fieldVal, values.get(0)) >= 0
-                    && compare(fieldVal, values.get(1)) <= 0;
+            Comparable fieldComp = CoerceUtil.coerce(fieldVal, Comparable.class);
+            List<Comparable> range = bounds.coerceTo(fieldVal.getClass());
+            return fieldComp.compareTo(range.get(0)) >= 0
+                    && fieldComp.compareTo(range.get(1)) <= 0;
         };
     }
 
@@ -391,9 +371,10 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> isEmpty(Path fieldPath, RequestScope requestScope) {
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
         return (T entity) -> {
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = accessor.getValue(entity);
             if (val instanceof Collection<?>) {
                 return ((Collection<?>) val).isEmpty();
             }
@@ -406,14 +387,17 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
+        Supplier<Object> member = Suppliers.memoize(() -> fieldPath.lastElement()
+                .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
+                .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
-            Object val = getFieldValue(entity, fieldPath, requestScope);
-            Object filterStr = fieldPath.lastElement()
-                    .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
-                    .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class));
+            Object val = accessor.getValue(entity);
+            Object filterStr = member.get();
 
             if (val instanceof Collection<?>) {
                 return ((Collection<?>) val).contains(filterStr);
@@ -426,90 +410,145 @@ public enum Operator {
         };
     }
 
-    /**
-     * Return value of field/path for given entity. For example this.book.author
-     *
-     * @param <T> the type of entity to retrieve a value from
-     * @param entity Entity bean
-     * @param fieldPath field value/path
-     * @param requestScope Request scope
-     * @return the value of the field
-     */
-    private static <T> Object getFieldValue(T entity, Path fieldPath, RequestScope requestScope) {
-        Object val = entity;
-        for (Path.PathElement field : fieldPath.getPathElements()) {
-            if ("this".equals(field.getFieldName())) {
-                continue;
-            }
-            if (val == null) {
-                break;
-            }
-            if (val instanceof Collection) {
-                val = ((Collection) val).stream()
-                        .filter(Objects::nonNull)
-                        .map(target -> PersistentResource.getValue(target, field.getFieldName(), requestScope))
-                        .filter(Objects::nonNull)
-                        .flatMap(result -> {
-                            if (result instanceof Collection) {
-                                return ((Collection) result).stream();
-                            }
-                            return Stream.of(result);
-                        })
-                        .collect(Collectors.toSet());
-            } else {
-                val = PersistentResource.getValue(val, field.getFieldName(), requestScope);
-            }
-        }
-        return val;
-    }
-
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
             RequestScope requestScope, IntPredicate condition) {
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
+        ComparableValues testValues = new ComparableValues(values);
         return (T entity) -> {
             if (CollectionUtils.isEmpty(values)) {
                 throw new BadRequestException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldVal = accessor.getValue(entity);
 
             if (fieldVal instanceof Collection) {
-                return ((Collection) fieldVal).stream()
-                        .anyMatch(fieldValueElement ->
-                            fieldValueElement != null
-                            && values.stream()
-                            .anyMatch(testVal -> condition.test(compare(fieldValueElement, testVal))));
+                for (Object fieldValueElement : (Collection<?>) fieldVal) {
+                    if (fieldValueElement != null && compare(fieldValueElement, testValues, condition)) {
+                        return true;
+                    }
+                }
+                return false;
             }
 
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
+            return fieldVal != null && compare(fieldVal, testValues, condition);
         };
 
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
+    private static boolean compare(Object fieldValue, ComparableValues testValues, IntPredicate condition) {
         Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
-
-        return fieldComp.compareTo(testComp);
+        for (Comparable testComp : testValues.coerceTo(fieldValue.getClass())) {
+            if (condition.test(fieldComp.compareTo(testComp))) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private static boolean evaluate(Object entity, Path fieldPath, List<Object> values,
-                             BiPredicate predicate, RequestScope requestScope) {
+    /**
+     * Builds a predicate which tests the value of a path against each filter value.
+     *
+     * @param fieldPath The path to test.
+     * @param values The filter values.
+     * @param prepare Transformation applied once to each filter value after it is coerced to the field type.
+     * @param predicate Tests a field value against a prepared filter value.
+     * @param requestScope Request scope
+     * @return the predicate
+     */
+    private static <T> Predicate<T> evaluate(Path fieldPath, List<Object> values, UnaryOperator<Object> prepare,
+                             BiPredicate<Object, Object> predicate, RequestScope requestScope) {
         Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        FieldAccessor accessor = new FieldAccessor(fieldPath, requestScope);
+        Supplier<List<Object>> testValues = Suppliers.memoize(() -> values.stream()
+                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
+                .map(prepare)
+                .collect(Collectors.toList()));
+
+        return (T entity) -> {
+            Object leftHandSide = accessor.getValue(entity);
+
+            if (leftHandSide instanceof Collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
+                for (Object leftHandSideElement : (Collection<?>) leftHandSide) {
+                    if (anyMatch(leftHandSideElement, testValues.get(), predicate)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return leftHandSide != null && anyMatch(leftHandSide, testValues.get(), predicate);
+        };
+    }
 
-        Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
+    private static boolean anyMatch(Object leftHandSide, List<Object> testValues,
+                                    BiPredicate<Object, Object> predicate) {
+        for (Object value : testValues) {
+            if (predicate.test(leftHandSide, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        if (leftHandSide instanceof Collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-            return ((Collection) leftHandSide).stream()
-                    .anyMatch(leftHandSideElement ->
-                        values.stream()
-                            .map(value -> CoerceUtil.coerce(value, valueClass))
-                            .anyMatch(value -> predicate.test(leftHandSideElement, value)));
+    /**
+     * Reads the value of a path (for example this.book.author) from entities.  Values reached through a
+     * collection are gathered into a set.
+     */
+    private static final class FieldAccessor {
+        private final String[] fieldNames;
+        private final RequestScope requestScope;
+
+        FieldAccessor(Path fieldPath, RequestScope requestScope) {
+            this.fieldNames = fieldPath.getPathElements().stream()
+                    .map(Path.PathElement::getFieldName)
+                    .filter(fieldName -> !"this".equals(fieldName))
+                    .toArray(String[]::new);
+            this.requestScope = requestScope;
+        }
+
+        Object getValue(Object entity) {
+            Object val = entity;
+            for (String fieldName : fieldNames) {
+                if (val == null) {
+                    break;
+                }
+                if (val instanceof Collection) {
+                    Set<Object> results = new HashSet<>();
+                    for (Object target : (Collection<?>) val) {
+                        if (target == null) {
+                            continue;
+                        }
+                        Object result = PersistentResource.getValue(target, fieldName, requestScope);
+                        if (result instanceof Collection) {
+                            results.addAll((Collection<?>) result);
+                        } else if (result != null) {
+                            results.add(result);
+                        }
+                    }
+                    val = results;
+                } else {
+                    val = PersistentResource.getValue(val, fieldName, requestScope);
+                }
+            }
+            return val;
+        }
+    }
+
+    /**
+     * Filter values coerced to comparables of the class of the field values they are compared against.
+     * Coercion happens once per class of field value.
+     */
+    private static final class ComparableValues {
+        private final List<Object> values;
+        private final Map<Class<?>, List<Comparable>> coerced = new ConcurrentHashMap<>();
+
+        ComparableValues(List<Object> values) {
+            this.values = values;
+        }
+
+        List<Comparable> coerceTo(Class<?> fieldClass) {
+            return coerced.computeIfAbsent(fieldClass, cls -> values.stream()
+                    .map(value -> CoerceUtil.coerce(CoerceUtil.coerce(value, cls), Comparable.class))
+                    .collect(Collectors.toList()));
         }
-        return leftHandSide != null && values.stream()
-                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
-                .anyMatch(value -> predicate.test(leftHandSide, value));
     }
 
     public Operator negate() {
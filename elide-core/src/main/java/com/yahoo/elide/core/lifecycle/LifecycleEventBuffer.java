@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.lifecycle;
+
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.CREATE;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
+import com.yahoo.elide.annotation.LifeCycleHookBinding.Operation;
+import com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.type.Type;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Buffers the lifecycle events of a request and dispatches them to lifecycle hooks.
+ * <p>
+ * Events are de-duplicated when they are added and indexed by operation and entity type, so dispatching a phase
+ * only visits the events of its operation and skips entity types without hooks for that phase.
+ * <p>
+ * READ, UPDATE and DELETE events run their pre-security hooks as soon as they are added.  Every other phase runs
+ * when it is {@link #dispatch dispatched}.  Once dispatched, a phase also receives the events of its operation which
+ * are added later (for example by the hooks themselves).
+ */
+public class LifecycleEventBuffer {
+    private final EntityDictionary dictionary;
+    private final Set<CRUDEvent> events = new HashSet<>();
+    private final Map<Operation, List<Bucket>> bucketsByOperation = new EnumMap<>(Operation.class);
+    private final Map<Pair<Operation, Type<?>>, Bucket> bucketIndex = new HashMap<>();
+    private final Map<Operation, List<Dispatch>> dispatches = new EnumMap<>(Operation.class);
+    private final Map<Operation, LifecycleHookInvoker> preSecurityInvokers = new EnumMap<>(Operation.class);
+
+    public LifecycleEventBuffer(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Whether no event has been added.
+     * @return true if the buffer is empty.
+     */
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * Adds an event unless an equal event was already added.
+     * @param event The event
+     */
+    public void add(CRUDEvent event) {
+        if (!events.add(event)) {
+            return;
+        }
+
+        Operation operation = event.getEventType();
+        Type<?> type = event.getResource().getResourceType();
+        bucketIndex.computeIfAbsent(Pair.of(operation, type), key -> {
+            Bucket bucket = new Bucket(type);
+            bucketsByOperation.computeIfAbsent(operation, unused -> new ArrayList<>()).add(bucket);
+            return bucket;
+        }).events.add(event);
+
+        List<Dispatch> operationDispatches = dispatches.getOrDefault(operation, Collections.emptyList());
+        for (int i = 0; i < operationDispatches.size(); i++) {
+            operationDispatches.get(i).drain();
+        }
+
+        if (operation != CREATE) {
+            preSecurityInvokers
+                    .computeIfAbsent(operation, op -> new LifecycleHookInvoker(dictionary, op, PRESECURITY, true))
+                    .onNext(event);
+        }
+    }
+
+    /**
+     * Runs the hooks of a phase for every buffered event of an operation.  Hook failures do not stop the dispatch;
+     * the last one is rethrown once every event has been dispatched.
+     * @param operation The operation
+     * @param phase The phase
+     */
+    public void dispatch(Operation operation, TransactionPhase phase) {
+        Dispatch dispatch = new Dispatch(operation, phase);
+        dispatches.computeIfAbsent(operation, unused -> new ArrayList<>()).add(dispatch);
+
+        dispatch.drain();
+        dispatch.invoker.throwOnError();
+    }
+
+    /**
+     * The events of one operation on one entity type, in the order they were added.
+     */
+    private static class Bucket {
+        private final Type<?> type;
+        private final List<CRUDEvent> events = new ArrayList<>();
+
+        private Bucket(Type<?> type) {
+            this.type = type;
+        }
+    }
+
+    /**
+     * A dispatched phase of an operation and how far it got in each bucket of the operation.
+     */
+    private class Dispatch {
+        private final Operation operation;
+        private final TransactionPhase phase;
+        private final LifecycleHookInvoker invoker;
+        private final List<Integer> delivered = new ArrayList<>();
+        private boolean draining = false;
+
+        private Dispatch(Operation operation, TransactionPhase phase) {
+            this.operation = operation;
+            this.phase = phase;
+            this.invoker = new LifecycleHookInvoker(dictionary, operation, phase, false);
+        }
+
+        /**
+         * Delivers the events not delivered yet.  Hooks may add events while they run: the dispatch that is
+         * already draining picks them up rather than being re-entered.
+         */
+        private void drain() {
+            List<Bucket> buckets = bucketsByOperation.get(operation);
+            if (draining || buckets == null) {
+                return;
+            }
+
+            draining = true;
+            try {
+                boolean delivering = true;
+                while (delivering) {
+                    delivering = false;
+                    for (int i = 0; i < buckets.size(); i++) {
+                        if (delivered.size() == i) {
+                            delivered.add(0);
+                        }
+
+                        Bucket bucket = buckets.get(i);
+                        if (!dictionary.hasTriggers(bucket.type, operation, phase)) {
+                            delivered.set(i, bucket.events.size());
+                            continue;
+                        }
+
+                        for (int next = delivered.get(i); next < bucket.events.size(); next++) {
+                            delivered.set(i, next + 1);
+                            invoker.onNext(bucket.events.get(next));
+                            delivering = true;
+                        }
+                    }
+                }
+            } finally {
+                draining = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.request.Sorting.SortOrder;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination.  Rather than skipping an offset of rows, a page starts right after the sort key of
+ * the last row of the previous page.  Every page costs the same no matter how deep it is.
+ * <p>
+ * The key of a collection is its requested sorting followed by its id, which makes the key unique.  The key of
+ * the last row is handed to clients as an opaque cursor ({@code page[after]}).  Rows with null key values cannot
+ * be sought past, so no cursor is returned for them.
+ */
+public class KeysetPagination {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Whether the client requested keyset pagination.
+     * @param pagination The requested pagination (may be null).
+     * @return true if the client requested keyset pagination.
+     */
+    public static boolean isKeyset(Pagination pagination) {
+        return pagination != null && pagination.getAfter() != null;
+    }
+
+    /**
+     * Get the sort key of a collection: its requested sorting followed by its id.
+     * @param projection The projection of the collection.
+     * @param dictionary The entity dictionary.
+     * @return The ordered paths of the key and their sort order.
+     */
+    public static Map<Path, SortOrder> getKey(EntityProjection projection, EntityDictionary dictionary) {
+        Map<Path, SortOrder> key = getSortingKey(projection);
+
+        Type<?> type = projection.getType();
+        String idFieldName = dictionary.getIdFieldName(type);
+        if (idFieldName != null) {
+            key.putIfAbsent(new Path(type, dictionary, idFieldName), SortOrder.asc);
+        }
+
+        if (key.isEmpty()) {
+            throw new InvalidValueException("Keyset pagination requires sorting");
+        }
+        return key;
+    }
+
+    /**
+     * Get the sort key of a collection whose rows are unique by their requested sorting alone.
+     * @param projection The projection of the collection.
+     * @return The ordered paths of the key and their sort order.
+     */
+    public static Map<Path, SortOrder> getSortingKey(EntityProjection projection) {
+        Map<Path, SortOrder> key = new LinkedHashMap<>();
+        Sorting sorting = projection.getSorting();
+        if (sorting != null && !sorting.isDefaultInstance()) {
+            key.putAll(sorting.getSortingPaths());
+        }
+        return key;
+    }
+
+    /**
+     * Rewrites a projection so that it is sorted by its key and only selects rows after the requested cursor.
+     * @param projection The projection of the collection.
+     * @param key The key of the collection.
+     * @return The rewritten projection.
+     */
+    public static EntityProjection seek(EntityProjection projection, Map<Path, SortOrder> key) {
+        FilterExpression filterExpression = projection.getFilterExpression();
+        FilterExpression seekExpression = getSeekExpression(projection.getPagination(), key);
+
+        if (seekExpression != null) {
+            filterExpression = filterExpression == null
+                    ? seekExpression
+                    : new AndFilterExpression(filterExpression, seekExpression);
+        }
+
+        return projection.copyOf()
+                .filterExpression(filterExpression)
+                .sorting(new KeySorting(projection.getType(), key))
+                .build();
+    }
+
+    /**
+     * Get the filter which selects the rows after the requested cursor.
+     * @param pagination The requested keyset pagination.
+     * @param key The key of the collection.
+     * @return The filter or null for the first page.
+     */
+    public static FilterExpression getSeekExpression(Pagination pagination, Map<Path, SortOrder> key) {
+        String cursor = pagination.getAfter();
+        return cursor.isEmpty() ? null : getSeekExpression(key, decode(cursor, key.size()));
+    }
+
+    /**
+     * Get the cursor of the page following a loaded page.
+     * @param results The loaded page.
+     * @param limit The page size.
+     * @param key The key of the collection.
+     * @param scope The request scope.
+     * @return The cursor of the next page or null if the page is the last (or its last key has null values).
+     */
+    public static String getNextCursor(Iterable<?> results, int limit, Map<Path, SortOrder> key,
+                                       RequestScope scope) {
+        int size = 0;
+        Object last = null;
+        for (Object result : results) {
+            size++;
+            last = result;
+        }
+
+        if (size == 0 || size < limit) {
+            return null;
+        }
+
+        List<Object> values = new ArrayList<>();
+        for (Path path : key.keySet()) {
+            Object value = getValue(last, path, scope);
+            if (value == null) {
+                return null;
+            }
+
+            Serde serde = CoerceUtil.lookup(value.getClass());
+            values.add(serde == null ? value : serde.serialize(value));
+        }
+        return encode(values);
+    }
+
+    /**
+     * Builds (k1 &gt; v1) OR (k1 = v1 AND k2 &gt; v2) OR ... with &lt; in place of &gt; for descending keys.
+     */
+    private static FilterExpression getSeekExpression(Map<Path, SortOrder> key, List<Object> values) {
+        FilterExpression seek = null;
+        FilterExpression equalPrefix = null;
+
+        Iterator<Object> valueIterator = values.iterator();
+        for (Map.Entry<Path, SortOrder> entry : key.entrySet()) {
+            Path path = entry.getKey();
+            Object value = coerce(valueIterator.next(), path);
+
+            Operator operator = entry.getValue() == SortOrder.asc ? Operator.GT : Operator.LT;
+            FilterExpression after = new FilterPredicate(path, operator, Collections.singletonList(value));
+            if (equalPrefix != null) {
+                after = new AndFilterExpression(equalPrefix, after);
+            }
+            seek = seek == null ? after : new OrFilterExpression(seek, after);
+
+            FilterExpression equal = new FilterPredicate(path, Operator.IN, Collections.singletonList(value));
+            equalPrefix = equalPrefix == null ? equal : new AndFilterExpression(equalPrefix, equal);
+        }
+        return seek;
+    }
+
+    private static Object coerce(Object value, Path path) {
+        Type<?> fieldType = path.lastElement()
+                .map(Path.PathElement::getFieldType)
+                .orElseThrow(() -> new InvalidValueException("Invalid keyset path " + path));
+        try {
+            return CoerceUtil.coerce(value, fieldType);
+        } catch (RuntimeException e) {
+            throw new InvalidValueException("Invalid pagination cursor");
+        }
+    }
+
+    private static Object getValue(Object entity, Path path, RequestScope scope) {
+        Object value = entity;
+        for (Path.PathElement element : path.getPathElements()) {
+            if (value == null) {
+                break;
+            }
+            value = PersistentResource.getValue(value, element.getFieldName(), scope);
+        }
+        return value;
+    }
+
+    private static String encode(List<Object> values) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Object> decode(String cursor, int keySize) {
+        List<Object> values;
+        try {
+            values = MAPPER.readValue(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8),
+                    new TypeReference<List<Object>>() { });
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidValueException("Invalid pagination cursor");
+        }
+
+        if (values == null || values.size() != keySize || values.contains(null)) {
+            throw new InvalidValueException("Invalid pagination cursor");
+        }
+        return values;
+    }
+
+    /**
+     * Sorting by the key of a collection.
+     */
+    @Value
+    private static class KeySorting implements Sorting {
+        Type<?> type;
+        Map<Path, SortOrder> sortingPaths;
+
+        @Override
+        public boolean isDefaultInstance() {
+            return false;
+        }
+    }
+}
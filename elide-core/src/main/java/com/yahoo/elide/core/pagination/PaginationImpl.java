@@ -34,7 +34,7 @@ public class PaginationImpl implements Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after }
 
     // For specifying which page of records is to be returned in the response
     public static final String PAGE_NUMBER_KEY = "page[number]";
@@ -51,12 +51,17 @@ public class PaginationImpl implements Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
-    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.of(
-            PAGE_NUMBER_KEY, PaginationKey.number,
-            PAGE_SIZE_KEY, PaginationKey.size,
-            PAGE_OFFSET_KEY, PaginationKey.offset,
-            PAGE_LIMIT_KEY, PaginationKey.limit,
-            PAGE_TOTALS_KEY, PaginationKey.totals);
+    // For requesting keyset pagination, starting after the (opaque) cursor returned with the previous page
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.<String, PaginationKey>builder()
+            .put(PAGE_NUMBER_KEY, PaginationKey.number)
+            .put(PAGE_SIZE_KEY, PaginationKey.size)
+            .put(PAGE_OFFSET_KEY, PaginationKey.offset)
+            .put(PAGE_LIMIT_KEY, PaginationKey.limit)
+            .put(PAGE_TOTALS_KEY, PaginationKey.totals)
+            .put(PAGE_AFTER_KEY, PaginationKey.after)
+            .build();
 
     @Getter
     @Setter
@@ -78,6 +83,13 @@ public class PaginationImpl implements Pagination {
     @Getter
     private final Type<?> entityClass;
 
+    @Getter
+    private final String after;
+
+    @Getter
+    @Setter
+    private String nextCursor;
+
     /**
      * Constructor.
      * @param entityClass The type of collection we are paginating.
@@ -116,9 +128,34 @@ public class PaginationImpl implements Pagination {
                            int systemMaxLimit,
                            Boolean generateTotals,
                            Boolean pageByPages) {
+        this(entityClass, clientOffset, clientLimit, systemDefaultLimit, systemMaxLimit, generateTotals,
+                pageByPages, null);
+    }
+
+    /**
+     * Constructor.
+     * @param entityClass The type of collection we are paginating.
+     * @param clientOffset The client requested offset or null if not provided.
+     * @param clientLimit The client requested limit or null if not provided.
+     * @param systemDefaultLimit The system default limit (in terms of records).
+     * @param systemMaxLimit The system max limit (in terms of records).
+     * @param generateTotals Whether to return the total number of records.
+     * @param pageByPages Whether to page by pages or records.
+     * @param after The client requested keyset cursor (empty for the first page) or null if not provided.
+     */
+    public PaginationImpl(Type<?> entityClass,
+                           Integer clientOffset,
+                           Integer clientLimit,
+                           int systemDefaultLimit,
+                           int systemMaxLimit,
+                           Boolean generateTotals,
+                           Boolean pageByPages,
+                           String after) {
 
         this.entityClass = entityClass;
-        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null);
+        this.after = after;
+        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null
+                && after == null);
 
         Paginate paginate = entityClass != null ? (Paginate) entityClass.getAnnotation(Paginate.class) : null;
 
@@ -189,9 +226,9 @@ public class PaginationImpl implements Pagination {
                     final String queryParamKey = paramEntry.getKey();
                     if (PAGE_KEYS.containsKey(queryParamKey)) {
                         PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
-                        if (paginationKey.equals(PaginationKey.totals)) {
-                            // page[totals] is a valueless parameter, use value of 0 just so that its presence can
-                            // be recorded in the map
+                        if (paginationKey.equals(PaginationKey.totals) || paginationKey.equals(PaginationKey.after)) {
+                            // page[totals] is a valueless parameter and page[after] is not an integer, use value of
+                            // 0 just so that their presence can be recorded in the map
                             pageData.put(paginationKey, 0);
                         } else {
                             final String value = paramEntry.getValue().get(0);
@@ -207,7 +244,11 @@ public class PaginationImpl implements Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(entityClass, pageData, elideSettings);
+        String after = pageData.containsKey(PaginationKey.after)
+                ? Optional.ofNullable(queryParams.get().getFirst(PAGE_AFTER_KEY)).orElse("")
+                : null;
+
+        return getPagination(entityClass, pageData, after, elideSettings);
     }
 
 
@@ -216,11 +257,12 @@ public class PaginationImpl implements Pagination {
      *
      * @param entityClass The collection type.
      * @param pageData Map containing pagination information
+     * @param after The keyset cursor or null
      * @param elideSettings Settings containing pagination defaults
      * @return Pagination object
      */
     private static PaginationImpl getPagination(Type<?> entityClass, Map<PaginationKey, Integer> pageData,
-                                                ElideSettings elideSettings) {
+                                                String after, ElideSettings elideSettings) {
         if (hasInvalidCombination(pageData)) {
             throw new InvalidValueException("Invalid usage of pagination parameters.");
         }
@@ -241,12 +283,15 @@ public class PaginationImpl implements Pagination {
                 elideSettings.getDefaultPageSize(),
                 elideSettings.getDefaultMaxPageSize(),
                 pageData.containsKey(PaginationKey.totals) ? true : null,
-                pageByPages);
+                pageByPages,
+                after);
     }
 
     private static boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
-        return (pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
-                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset));
+        return ((pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
+                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset)))
+                || (pageData.containsKey(PaginationKey.after)
+                && (pageData.containsKey(PaginationKey.number) || pageData.containsKey(PaginationKey.offset)));
     }
 
 
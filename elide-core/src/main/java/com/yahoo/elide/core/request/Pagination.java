@@ -61,4 +61,22 @@ public interface Pagination {
      * @return true if pagination wasn't requested.  False otherwise.
      */
     boolean isDefaultInstance();
+
+    /**
+     * Get the cursor after which the page starts when the client requested keyset pagination.
+     * @return the cursor, empty for the first page, or null if keyset pagination wasn't requested.
+     */
+    String getAfter();
+
+    /**
+     * Get the cursor of the page following this one.
+     * @return the cursor, or null if this is the last page.
+     */
+    String getNextCursor();
+
+    /**
+     * Set the cursor of the page following this one.
+     * @param nextCursor the cursor.
+     */
+    void setNextCursor(String nextCursor);
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the outcome of cacheable {@link UserCheck}s across requests.
+ * <p>
+ * Outcomes are keyed by the name of the user's principal, the identifier of the check in the dictionary and the API
+ * version.  Parameterised role checks (like {@link com.yahoo.elide.core.security.checks.prefab.Role.RoleMemberCheck})
+ * are therefore cached per role.  Only checks which declare themselves {@link UserCheck#isCacheable() cacheable} are
+ * cached.  Anonymous users are never cached.
+ * Entries expire after a fixed time to live and the least recently used entries are evicted once the cache is full.
+ */
+public class UserCheckCache {
+    public static final long DEFAULT_MAXIMUM_ENTRIES = 10000;
+    public static final long DEFAULT_EXPIRATION_SECONDS = 60;
+
+    private final Cache<Key, Boolean> outcomes;
+
+    /**
+     * Key of a cached outcome.
+     */
+    @Value
+    private static class Key {
+        String principalName;
+        String checkIdentifier;
+        String apiVersion;
+    }
+
+    public UserCheckCache() {
+        this(DEFAULT_MAXIMUM_ENTRIES, DEFAULT_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumEntries The maximum number of cached outcomes
+     * @param expiration How long an outcome is cached
+     * @param unit The unit of the expiration
+     */
+    public UserCheckCache(long maximumEntries, long expiration, TimeUnit unit) {
+        this.outcomes = CacheBuilder.newBuilder()
+                .maximumSize(maximumEntries)
+                .expireAfterWrite(expiration, unit)
+                .build();
+    }
+
+    /**
+     * Evaluates a user check through the cache configured in the settings of the request (if any).
+     *
+     * @param check The check to evaluate
+     * @param requestScope The request scope
+     * @return True if the check passes, false otherwise
+     */
+    public static boolean evaluate(UserCheck check, RequestScope requestScope) {
+        if (!(requestScope instanceof com.yahoo.elide.core.RequestScope)) {
+            return check.ok(requestScope.getUser());
+        }
+
+        com.yahoo.elide.core.RequestScope scope = (com.yahoo.elide.core.RequestScope) requestScope;
+        ElideSettings settings = scope.getElideSettings();
+        UserCheckCache cache = settings == null ? null : settings.getUserCheckCache();
+        if (cache == null || !check.isCacheable()) {
+            return check.ok(requestScope.getUser());
+        }
+
+        String checkIdentifier = scope.getDictionary().getCheckIdentifier(check);
+        return cache.ok(check, checkIdentifier, requestScope.getUser(), requestScope.getApiVersion());
+    }
+
+    /**
+     * Evaluates a user check, reusing a cached outcome if there is one.
+     *
+     * @param check The check to evaluate
+     * @param checkIdentifier The identifier of the check in the dictionary
+     * @param user The user of the request
+     * @param apiVersion The API version of the request
+     * @return True if the check passes, false otherwise
+     */
+    public boolean ok(UserCheck check, String checkIdentifier, User user, String apiVersion) {
+        String principalName = user == null ? null : user.getName();
+        if (principalName == null || !check.isCacheable()) {
+            return check.ok(user);
+        }
+
+        Key key = new Key(principalName, checkIdentifier, apiVersion);
+        Boolean outcome = outcomes.getIfPresent(key);
+        if (outcome == null) {
+            outcome = check.ok(user);
+            outcomes.put(key, outcome);
+        }
+        return outcome;
+    }
+
+    /**
+     * Discards every cached outcome for a user (for example after their entitlements change).
+     *
+     * @param principalName The name of the user's principal
+     */
+    public void invalidateUser(String principalName) {
+        outcomes.asMap().keySet().removeIf(key -> key.getPrincipalName().equals(principalName));
+    }
+
+    /**
+     * Discards every cached outcome of a check.
+     *
+     * @param checkIdentifier The identifier of the check in the dictionary
+     */
+    public void invalidateCheck(String checkIdentifier) {
+        outcomes.asMap().keySet().removeIf(key -> key.getCheckIdentifier().equals(checkIdentifier));
+    }
+
+    /**
+     * Discards every cached outcome.
+     */
+    public void invalidateAll() {
+        outcomes.invalidateAll();
+    }
+}
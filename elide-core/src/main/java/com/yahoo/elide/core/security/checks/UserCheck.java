@@ -20,6 +20,16 @@ public abstract class UserCheck implements Check {
      */
     public abstract boolean ok(User user);
 
+    /**
+     * Whether the outcome of this check only depends on the identity of the user (and the API version), so that
+     * it can be reused across requests by a {@link com.yahoo.elide.core.security.UserCheckCache}.
+     *
+     * @return True if the outcome may be cached, false otherwise
+     */
+    public boolean isCacheable() {
+        return false;
+    }
+
     @Override
     public final boolean runAtCommit() {
         return false;
@@ -45,5 +45,10 @@ public class Role {
         public boolean ok(User user) {
             return user.isInRole(role);
         }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 }
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core.security.permissions;
 
+import static com.yahoo.elide.core.security.permissions.ExpressionResult.PASS;
 import static com.yahoo.elide.core.security.permissions.expressions.Expression.Results.FAILURE;
 import static com.yahoo.elide.core.security.visitors.PermissionToFilterExpressionVisitor.FALSE_USER_CHECK_EXPRESSION;
 import static com.yahoo.elide.core.security.visitors.PermissionToFilterExpressionVisitor.NO_EVALUATION_EXPRESSION;
@@ -24,7 +25,6 @@ import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
 import com.yahoo.elide.core.security.permissions.expressions.SpecificFieldExpression;
-import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
 import com.yahoo.elide.core.security.visitors.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.core.type.Type;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -138,6 +138,16 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
             return SUCCESSFUL_EXPRESSION;
         }
 
+        ParseTree permissions = entityDictionary.getPermissionsForField(resourceClass, field, annotationClass);
+        if (permissions == null) {
+            permissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
+        }
+        PermissionExpressionTemplate template = entityDictionary.getPermissionTemplate(permissions);
+        if (template != null && template.getConstantResult() == PASS) {
+            // The governing expression always grants, whoever the user is.
+            return SUCCESSFUL_EXPRESSION;
+        }
+
         final Function<Check, Expression> leafBuilderFn = (check) ->
                 new CheckExpression(check, null, scope, null, cache);
 
@@ -290,7 +300,7 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
             return null;
         }
 
-        return new PermissionExpressionVisitor(entityDictionary, checkFn).visit(permissions);
+        return entityDictionary.getPermissionTemplate(permissions).bind(checkFn);
     }
 
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Type type, RequestScope scope) {
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import static com.yahoo.elide.core.security.permissions.ExpressionResult.FAIL;
+import static com.yahoo.elide.core.security.permissions.ExpressionResult.PASS;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.Injector;
+import com.yahoo.elide.core.security.CheckInstantiator;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.checks.prefab.Role;
+import com.yahoo.elide.core.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import org.antlr.v4.runtime.tree.ParseTree;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * A permission ParseTree compiled once into an immutable template.
+ * <p>
+ * Check identifiers are resolved when the template is compiled.  Binding a template instantiates the checks and
+ * allocates the expression graph for a particular resource, so it is far cheaper than visiting the ParseTree.
+ * Like the ParseTree visitor, it creates new instances of check classes for every binding and shares the role
+ * checks of the dictionary.
+ * Bound expressions have the same shape as the ones built by
+ * {@link com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor}.
+ */
+public abstract class PermissionExpressionTemplate {
+
+    /**
+     * The result of the template if it only depends on checks which always grant or always deny
+     * (or null if it must be evaluated).
+     */
+    @Getter
+    private final ExpressionResult constantResult;
+
+    private PermissionExpressionTemplate(ExpressionResult constantResult) {
+        this.constantResult = constantResult;
+    }
+
+    /**
+     * Compiles a permission ParseTree.
+     *
+     * @param permissions The permission ParseTree
+     * @param dictionary The dictionary used to resolve checks
+     * @return The compiled template
+     */
+    public static PermissionExpressionTemplate compile(ParseTree permissions, EntityDictionary dictionary) {
+        return new Compiler(dictionary).visit(permissions);
+    }
+
+    /**
+     * Binds the template into an expression.
+     *
+     * @param checkFn Builds the expression of a single check
+     * @return The expression
+     */
+    public abstract Expression bind(Function<Check, Expression> checkFn);
+
+    private static class Leaf extends PermissionExpressionTemplate implements CheckInstantiator {
+        private final UserCheck roleCheck;
+        private final Class<? extends Check> checkClass;
+        private final Injector injector;
+
+        private Leaf(UserCheck roleCheck) {
+            super(getConstantResult(roleCheck.getClass()));
+            this.roleCheck = roleCheck;
+            this.checkClass = null;
+            this.injector = null;
+        }
+
+        private Leaf(Class<? extends Check> checkClass, Injector injector) {
+            super(getConstantResult(checkClass));
+            this.roleCheck = null;
+            this.checkClass = checkClass;
+            this.injector = injector;
+        }
+
+        private static ExpressionResult getConstantResult(Class<? extends Check> checkClass) {
+            if (checkClass == Role.ALL.class) {
+                return PASS;
+            }
+            if (checkClass == Role.NONE.class) {
+                return FAIL;
+            }
+            return null;
+        }
+
+        @Override
+        public Expression bind(Function<Check, Expression> checkFn) {
+            return checkFn.apply(roleCheck != null ? roleCheck : instantiateCheck(checkClass, injector));
+        }
+    }
+
+    private static class Not extends PermissionExpressionTemplate {
+        private final PermissionExpressionTemplate negated;
+
+        private Not(PermissionExpressionTemplate negated) {
+            super(negated.getConstantResult() == null
+                    ? null
+                    : negated.getConstantResult() == PASS ? FAIL : PASS);
+            this.negated = negated;
+        }
+
+        @Override
+        public Expression bind(Function<Check, Expression> checkFn) {
+            return new NotExpression(negated.bind(checkFn));
+        }
+    }
+
+    private static class And extends PermissionExpressionTemplate {
+        private final PermissionExpressionTemplate left;
+        private final PermissionExpressionTemplate right;
+
+        private And(PermissionExpressionTemplate left, PermissionExpressionTemplate right) {
+            super(combine(left.getConstantResult(), right.getConstantResult(), FAIL));
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Expression bind(Function<Check, Expression> checkFn) {
+            Expression leftExpression = left.bind(checkFn);
+            Expression rightExpression = right.bind(checkFn);
+            return new AndExpression(leftExpression, rightExpression);
+        }
+    }
+
+    private static class Or extends PermissionExpressionTemplate {
+        private final PermissionExpressionTemplate left;
+        private final PermissionExpressionTemplate right;
+
+        private Or(PermissionExpressionTemplate left, PermissionExpressionTemplate right) {
+            super(combine(left.getConstantResult(), right.getConstantResult(), PASS));
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Expression bind(Function<Check, Expression> checkFn) {
+            Expression leftExpression = left.bind(checkFn);
+            Expression rightExpression = right.bind(checkFn);
+            return new OrExpression(leftExpression, rightExpression);
+        }
+    }
+
+    /**
+     * Folds the constant results of a binary operator.
+     *
+     * @param left The constant result of the left operand (or null)
+     * @param right The constant result of the right operand (or null)
+     * @param dominant The result that decides the operator on its own (FAIL for AND, PASS for OR)
+     * @return The constant result of the operator (or null)
+     */
+    private static ExpressionResult combine(ExpressionResult left, ExpressionResult right,
+                                            ExpressionResult dominant) {
+        if (left == dominant || right == dominant) {
+            return dominant;
+        }
+        if (left != null && right != null) {
+            return left;
+        }
+        return null;
+    }
+
+    /**
+     * Compiles a ParseTree into a template.
+     */
+    private static class Compiler extends ExpressionBaseVisitor<PermissionExpressionTemplate> {
+        private final EntityDictionary dictionary;
+
+        private Compiler(EntityDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public PermissionExpressionTemplate visitNOT(ExpressionParser.NOTContext ctx) {
+            return new Not(visit(ctx.expression()));
+        }
+
+        @Override
+        public PermissionExpressionTemplate visitOR(ExpressionParser.ORContext ctx) {
+            return new Or(visit(ctx.left), visit(ctx.right));
+        }
+
+        @Override
+        public PermissionExpressionTemplate visitAND(ExpressionParser.ANDContext ctx) {
+            return new And(visit(ctx.left), visit(ctx.right));
+        }
+
+        @Override
+        public PermissionExpressionTemplate visitPAREN(ExpressionParser.PARENContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public PermissionExpressionTemplate visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+            String checkName = ctx.getText();
+            UserCheck roleCheck = dictionary.getRoleCheck(checkName);
+            if (roleCheck != null) {
+                return new Leaf(roleCheck);
+            }
+            return new Leaf(dictionary.getCheck(checkName), dictionary.getInjector());
+        }
+    }
+}
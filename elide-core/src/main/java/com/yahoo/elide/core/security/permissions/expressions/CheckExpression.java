@@ -13,6 +13,7 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.RequestScope;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.OperationCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
@@ -117,7 +118,7 @@ public class CheckExpression implements Expression {
         Object entity = (resource == null) ? null : resource.getObject();
 
         if (check instanceof UserCheck) {
-            result = ((UserCheck) check).ok(requestScope.getUser()) ? PASS : FAIL;
+            result = UserCheckCache.evaluate((UserCheck) check, requestScope) ? PASS : FAIL;
         } else {
             result = ((OperationCheck) check).ok(entity, requestScope, changeSpec) ? PASS : FAIL;
         }
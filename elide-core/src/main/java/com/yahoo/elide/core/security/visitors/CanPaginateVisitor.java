@@ -10,6 +10,7 @@ import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.security.CheckInstantiator;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.FilterExpressionCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
@@ -215,7 +216,7 @@ public class CanPaginateVisitor
             return PaginationStatus.CAN_PAGINATE;
         }
         if (check instanceof UserCheck) {
-            if (((UserCheck) check).ok(scope.getUser())) {
+            if (UserCheckCache.evaluate((UserCheck) check, scope)) {
                 return PaginationStatus.USER_CHECK_TRUE;
             }
             return PaginationStatus.USER_CHECK_FALSE;
@@ -16,6 +16,7 @@ import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.security.CheckInstantiator;
 import com.yahoo.elide.core.security.RequestScope;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.FilterExpressionCheck;
 import com.yahoo.elide.core.security.checks.UserCheck;
@@ -180,7 +181,7 @@ public class PermissionToFilterExpressionVisitor extends ExpressionBaseVisitor<F
         }
 
         if (check instanceof UserCheck) {
-            boolean userCheckResult = ((UserCheck) check).ok(requestScope.getUser());
+            boolean userCheckResult = UserCheckCache.evaluate((UserCheck) check, requestScope);
             return userCheckResult ? TRUE_USER_CHECK_EXPRESSION : FALSE_USER_CHECK_EXPRESSION;
         }
 
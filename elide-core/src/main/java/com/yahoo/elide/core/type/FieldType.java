@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
 
@@ -101,4 +103,22 @@ public class FieldType implements Field {
     public void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException {
         field.set(obj, value);
     }
+
+    /**
+     * Get a method handle which reads this field.
+     * @return A handle of type (declaring class)field type.
+     * @throws IllegalAccessException If the field is not accessible.
+     */
+    public MethodHandle getGetter() throws IllegalAccessException {
+        return MethodHandles.lookup().unreflectGetter(field);
+    }
+
+    /**
+     * Get a method handle which writes this field.
+     * @return A handle of type (declaring class, field type)void.
+     * @throws IllegalAccessException If the field is not accessible or is final.
+     */
+    public MethodHandle getSetter() throws IllegalAccessException {
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
 }
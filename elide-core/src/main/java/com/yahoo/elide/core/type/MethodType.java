@@ -11,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
@@ -118,4 +120,16 @@ public class MethodType implements Method {
     public Class<?>[] getParameterTypes() {
         return method.getParameterTypes();
     }
+
+    /**
+     * Get a method handle which invokes this method.
+     * @return A handle of type (declaring class, parameter types)return type.
+     * @throws IllegalAccessException If the method is not accessible.
+     */
+    public MethodHandle getHandle() throws IllegalAccessException {
+        if (! (method instanceof java.lang.reflect.Method)) {
+            throw new UnsupportedOperationException("Constructors cannot be invoked");
+        }
+        return MethodHandles.lookup().unreflect((java.lang.reflect.Method) method);
+    }
 }
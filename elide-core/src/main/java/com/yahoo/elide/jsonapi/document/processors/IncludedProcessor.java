@@ -6,17 +6,24 @@
 package com.yahoo.elide.jsonapi.document.processors;
 
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.BatchedRelationshipTransaction;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.jsonapi.EntityProjectionMaker;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.ws.rs.core.MultivaluedMap;
@@ -37,7 +44,8 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singletonList(resource),
+                    queryParams.get().get(INCLUDE));
         }
     }
 
@@ -49,49 +57,91 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+            addIncludedResources(jsonApiDocument, new ArrayList<>(resources), queryParams.get().get(INCLUDE));
         }
     }
 
     /**
      * Adds the requested relation resources to the included block of the JsonApiDocument.
+     * <p>
+     * Each relation path is fetched one level at a time across all resources so that a batching transaction can
+     * load a level with a single call.  The fetched resources are then added in the same depth first order as
+     * they would be by walking each resource on its own.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, List<PersistentResource> resources,
             List<String> requestedRelationPaths) {
 
-        EntityProjectionMaker maker = new EntityProjectionMaker(rec.getDictionary(), rec.getRequestScope());
-        EntityProjection projection = maker.parseInclude(rec.getResourceType());
-        // Process each include relation path
+        List<List<String>> relationPaths = new ArrayList<>();
         requestedRelationPaths.forEach(pathParam -> {
             List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
 
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath, projection);
-            });
+            pathList.forEach(requestedRelationPath ->
+                    relationPaths.add(Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER))));
+        });
+
+        Map<Type<?>, List<PersistentResource>> resourcesByType = new LinkedHashMap<>();
+        resources.forEach(resource ->
+                resourcesByType.computeIfAbsent(resource.getResourceType(), key -> new ArrayList<>()).add(resource));
+
+        // The related resources of each resource (by identity) for each relation path.
+        List<Map<PersistentResource, Set<PersistentResource>>> fetched = new ArrayList<>();
+        relationPaths.forEach(relationPath -> fetched.add(new IdentityHashMap<>()));
+
+        resourcesByType.values().forEach(group -> {
+            PersistentResource<?> rec = group.get(0);
+            EntityProjectionMaker maker = new EntityProjectionMaker(rec.getDictionary(), rec.getRequestScope());
+            EntityProjection projection = maker.parseInclude(rec.getResourceType());
+
+            for (int i = 0; i < relationPaths.size(); i++) {
+                fetchResourcesForPath(group, relationPaths.get(i), projection, fetched.get(i));
+            }
+        });
+
+        resources.forEach(resource -> {
+            for (int i = 0; i < relationPaths.size(); i++) {
+                addResourcesForPath(jsonApiDocument, resource, relationPaths.get(i).size(), fetched.get(i));
+            }
         });
     }
 
     /**
-     * Adds all the relation resources for a given relation path to the included block of the
-     * JsonApiDocument.
+     * Fetches all the relation resources for a given relation path, one level of the path at a time.
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
-                                     List<String> relationPath,
-                                     EntityProjection projection) {
-
-        //Pop off a relation of relation path
-        String relation = relationPath.remove(0);
+    private void fetchResourcesForPath(List<PersistentResource> resources, List<String> relationPath,
+                                       EntityProjection projection,
+                                       Map<PersistentResource, Set<PersistentResource>> fetched) {
+        List<PersistentResource> level = resources;
+        EntityProjection levelProjection = projection;
+
+        for (String relation : relationPath) {
+            Relationship relationship = levelProjection.getRelationship(relation).orElseThrow(IllegalStateException::new);
+            addSiblings(level);
+
+            List<PersistentResource> nextLevel = new ArrayList<>();
+            for (PersistentResource<?> rec : level) {
+                Set<PersistentResource> collection;
+                try {
+                    collection = rec.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
+                } catch (ForbiddenAccessException e) {
+                    continue;
+                }
+                fetched.put(rec, collection);
+                nextLevel.addAll(collection);
+            }
 
-        Set<PersistentResource> collection;
-        Relationship relationship = projection.getRelationship(relation).orElseThrow(IllegalStateException::new);
-        try {
-            collection = rec.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
+            level = nextLevel;
+            levelProjection = relationship.getProjection();
+        }
+    }
 
-        } catch (ForbiddenAccessException e) {
+    /**
+     * Adds all the fetched relation resources for a given relation path to the included block of the
+     * JsonApiDocument.
+     */
+    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource rec, int depth,
+                                     Map<PersistentResource, Set<PersistentResource>> fetched) {
+        Set<PersistentResource> collection = fetched.get(rec);
+        if (depth == 0 || collection == null) {
             return;
         }
 
@@ -99,14 +149,24 @@ public class IncludedProcessor implements DocumentProcessor {
             jsonApiDocument.addIncluded(resource.toResource());
 
             //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath),
-                        relationship.getProjection());
-            }
+            addResourcesForPath(jsonApiDocument, resource, depth - 1, fetched);
         });
     }
 
+    /**
+     * Lets a batching transaction load a relationship of resources fetched together with a single call.
+     */
+    private static void addSiblings(List<PersistentResource> resources) {
+        if (resources.size() < 2) {
+            return;
+        }
+
+        DataStoreTransaction transaction = resources.get(0).getRequestScope().getTransaction();
+        if (transaction instanceof BatchedRelationshipTransaction) {
+            ((BatchedRelationshipTransaction) transaction).addSiblings(resources);
+        }
+    }
+
     private static boolean isPresent(Optional<MultivaluedMap<String, String>> queryParams, String key) {
         return queryParams.isPresent() && queryParams.get().get(key) != null;
     }
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.jsonapi.parser.state;
 
+import com.yahoo.elide.ElideResponseStream;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -19,6 +20,7 @@ import com.yahoo.elide.core.exceptions.UnknownEntityException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.jsonapi.EntityProjectionMaker;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.document.processors.DocumentProcessor;
 import com.yahoo.elide.jsonapi.document.processors.IncludedProcessor;
@@ -27,14 +29,20 @@ import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.yahoo.elide.jsonapi.models.Meta;
 import com.yahoo.elide.jsonapi.models.Relationship;
 import com.yahoo.elide.jsonapi.models.Resource;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.base.Preconditions;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import io.reactivex.Observable;
 import lombok.ToString;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -68,10 +76,22 @@ public class CollectionTerminalState extends BaseState {
 
     @Override
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
-        JsonApiDocument jsonApiDocument = new JsonApiDocument();
         RequestScope requestScope = state.getRequestScope();
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
 
+        ElideResponseStream responseStream = requestScope.getResponseStream();
+        if (responseStream != null && !isToOne(requestScope.getDictionary())) {
+            return () -> {
+                try {
+                    responseStream.send(HttpStatus.SC_OK, output -> writeCollection(output, requestScope));
+                } catch (IOException e) {
+                    throw new InternalServerErrorException(e);
+                }
+                return Pair.of(HttpStatus.SC_OK, null);
+            };
+        }
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
         Set<PersistentResource> collection =
                 getResourceCollection(requestScope).toList(LinkedHashSet::new).blockingGet();
 
@@ -82,36 +102,94 @@ public class CollectionTerminalState extends BaseState {
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, collection, queryParams);
 
+        // Add pagination meta data
+        jsonApiDocument.setMeta(getMeta());
+
+        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+
+        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+    }
+
+    /**
+     * Writes the collection straight to the response as it is loaded, without building the document first.
+     * Only the resources needed for the included block are kept.
+     */
+    private void writeCollection(OutputStream output, RequestScope requestScope) throws IOException {
+        Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
+        boolean include = queryParams.map(params -> params.containsKey(EntityProjectionMaker.INCLUDE)).orElse(false);
+
+        ObjectMapper objectMapper = requestScope.getMapper().getObjectMapper();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // A failure part way through must leave the body incomplete rather than closed off as a valid document.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+
+            Set<PersistentResource> collection = new LinkedHashSet<>();
+            generator.writeArrayFieldStart("data");
+            for (PersistentResource resource : getResourceCollection(requestScope).blockingIterable()) {
+                writer.writeValue(generator, resource.toResource());
+                if (include) {
+                    collection.add(resource);
+                }
+            }
+            generator.writeEndArray();
+
+            if (include) {
+                JsonApiDocument jsonApiDocument = new JsonApiDocument();
+                new IncludedProcessor().execute(jsonApiDocument, collection, queryParams);
+                if (jsonApiDocument.getIncluded() != null) {
+                    generator.writeFieldName("included");
+                    writer.writeValue(generator, jsonApiDocument.getIncluded());
+                }
+            }
+
+            // Page totals and cursors are only known once the collection has been loaded.
+            Meta meta = getMeta();
+            if (meta != null) {
+                generator.writeFieldName("meta");
+                writer.writeValue(generator, meta);
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    private Meta getMeta() {
         Pagination pagination = parentProjection.getPagination();
         if (parent.isPresent()) {
             pagination = parentProjection.getRelationship(relationName.get()).get().getProjection().getPagination();
         }
 
-        // Add pagination meta data
-        if (!pagination.isDefaultInstance()) {
+        if (pagination.isDefaultInstance()) {
+            return null;
+        }
 
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
-            pageMetaData.put("limit", pagination.getLimit());
-
-            // Get total records if it has been requested and add to the page meta data
-            if (pagination.returnPageTotals()) {
-                Long totalRecords = pagination.getPageTotals();
-                pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
-                        + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
-                pageMetaData.put("totalRecords", totalRecords);
+        Map<String, Object> pageMetaData = new HashMap<>();
+        if (pagination.getAfter() != null) {
+            // Keyset pages have no number.  The cursor of the next page is absent on the last page.
+            if (pagination.getNextCursor() != null) {
+                pageMetaData.put("next", pagination.getNextCursor());
             }
-
-            Map<String, Object> allMetaData = new HashMap<>();
-            allMetaData.put("page", pageMetaData);
-
-            Meta meta = new Meta(allMetaData);
-            jsonApiDocument.setMeta(meta);
+        } else {
+            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+        }
+        pageMetaData.put("limit", pagination.getLimit());
+
+        // Get total records if it has been requested and add to the page meta data
+        if (pagination.returnPageTotals()) {
+            Long totalRecords = pagination.getPageTotals();
+            pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
+                    + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+            pageMetaData.put("totalRecords", totalRecords);
         }
 
-        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+        Map<String, Object> allMetaData = new HashMap<>();
+        allMetaData.put("page", pageMetaData);
 
-        return () -> Pair.of(HttpStatus.SC_OK, responseBody);
+        return new Meta(allMetaData);
     }
 
     @Override
@@ -161,6 +239,11 @@ public class CollectionTerminalState extends BaseState {
         return new Data<>(resources);
     }
 
+    private boolean isToOne(EntityDictionary dictionary) {
+        return parent.isPresent()
+                && dictionary.getRelationshipType(parent.get().getResourceType(), relationName.get()).isToOne();
+    }
+
     private PersistentResource createObject(RequestScope requestScope)
         throws ForbiddenAccessException, InvalidObjectIdentifierException {
         JsonApiDocument doc = requestScope.getJsonApiDocument();
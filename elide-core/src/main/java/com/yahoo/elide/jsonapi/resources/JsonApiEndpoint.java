@@ -16,9 +16,19 @@ import com.yahoo.elide.utils.ResourceUtils;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -35,6 +45,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
@@ -46,10 +57,42 @@ import javax.ws.rs.core.UriInfo;
 public class JsonApiEndpoint {
     protected final Elide elide;
 
+    public static final Duration DEFAULT_STREAMING_TIMEOUT = Duration.ofSeconds(30);
+
+    // Runs GET requests whose responses are streamed.  Null if responses are built in full.
+    protected final Executor streamingExecutor;
+
+    // How long the request thread waits for the response code and the executor waits for the container's stream.
+    protected final Duration streamingTimeout;
+
     @Inject
     public JsonApiEndpoint(
             @Named("elide") Elide elide) {
+        this(elide, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param elide elide instance
+     * @param streamingExecutor runs GET requests so that their responses can be streamed as they are loaded
+     */
+    public JsonApiEndpoint(Elide elide, Executor streamingExecutor) {
+        this(elide, streamingExecutor, DEFAULT_STREAMING_TIMEOUT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param elide elide instance
+     * @param streamingExecutor runs GET requests so that their responses can be streamed as they are loaded
+     * @param streamingTimeout how long the request thread waits for the response code and the executor waits for
+     *                         the container's stream.  Writing the body itself is not bounded.
+     */
+    public JsonApiEndpoint(Elide elide, Executor streamingExecutor, Duration streamingTimeout) {
         this.elide = elide;
+        this.streamingExecutor = streamingExecutor;
+        this.streamingTimeout = streamingTimeout;
     }
 
     /**
@@ -100,10 +143,109 @@ public class JsonApiEndpoint {
         Map<String, List<String>> requestHeaders = HeaderUtils.removeAuthHeaders(headers.getRequestHeaders());
         User user = new SecurityContextUser(securityContext);
 
+        if (streamingExecutor != null) {
+            return stream(getBaseUrlEndpoint(uriInfo), path, queryParams, requestHeaders, user, apiVersion);
+        }
+
         return build(elide.get(getBaseUrlEndpoint(uriInfo), path, queryParams,
                                requestHeaders, user, apiVersion, UUID.randomUUID()));
     }
 
+    /**
+     * Runs a GET request on the streaming executor.  The response is returned as soon as its code is known.
+     * The executor thread then writes the body into the container's stream, keeping the transaction open until
+     * it is done.  The hand-offs between the threads are bounded by the streaming timeout: once one side gives up,
+     * the other one fails rather than waiting forever.  Writing the body takes as long as the collection takes to
+     * load.
+     */
+    private Response stream(String baseUrlEndpoint, String path, MultivaluedMap<String, String> queryParams,
+                            Map<String, List<String>> requestHeaders, User user, String apiVersion) {
+        CompletableFuture<Response> response = new CompletableFuture<>();
+
+        streamingExecutor.execute(() -> {
+            try {
+                elide.get(baseUrlEndpoint, path, queryParams, requestHeaders, user, apiVersion, UUID.randomUUID(),
+                        (responseCode, body) -> {
+                            if (body == null) {
+                                response.complete(Response.status(responseCode).build());
+                                return;
+                            }
+
+                            // Hand the body over to the container and write it once the container's stream arrives.
+                            CompletableFuture<OutputStream> output = new CompletableFuture<>();
+                            CompletableFuture<Void> written = new CompletableFuture<>();
+                            StreamingOutput entity = containerOutput -> {
+                                output.complete(containerOutput);
+                                await(written, null, output, written);
+                            };
+                            if (!response.complete(Response.status(responseCode).entity(entity).build())) {
+                                throw new IOException("The request stopped waiting for the response");
+                            }
+
+                            try {
+                                body.write(await(output, streamingTimeout, output, written));
+                                written.complete(null);
+                            } catch (IOException | RuntimeException e) {
+                                written.completeExceptionally(e);
+                                throw e;
+                            }
+                        });
+            } catch (IOException | RuntimeException | Error e) {
+                response.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return await(response, streamingTimeout, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for a future.
+     *
+     * @param future the future to wait for
+     * @param timeout how long to wait, or null to wait until the future completes
+     * @param abandoned the futures to fail if the wait times out or is interrupted, so that the other side of the
+     *                  stream stops waiting too
+     * @return the result of the future
+     * @throws IOException if the future failed with an IOException, timed out or the wait was interrupted
+     */
+    private <T> T await(CompletableFuture<T> future, Duration timeout, CompletableFuture<?>... abandoned)
+            throws IOException {
+        IOException failure;
+        try {
+            if (timeout == null) {
+                return future.get();
+            }
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            failure = new IOException("Timed out streaming the response", e);
+        } catch (InterruptedException | CancellationException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failure = new IOException("Streaming the response was cancelled", e);
+        }
+
+        for (CompletableFuture<?> other : abandoned) {
+            other.completeExceptionally(failure);
+        }
+        throw failure;
+    }
+
     /**
      * Update handler.
      *
@@ -5,20 +5,29 @@
  */
 package com.yahoo.elide.core;
 
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.READ;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.lifecycle.LifecycleEventBuffer;
 import com.yahoo.elide.core.type.ClassType;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -77,4 +86,52 @@ public class RequestScopeTest {
         requestScope.setUUIDForObject(ClassType.of(MyInheritedClass.class), myId, new MyInheritedClass());
         assertNotNull(requestScope.getObjectById(ClassType.of(MyBaseClass.class), myId));
     }
+
+    @Test
+    public void testScaffoldingIsSharedAndLifecycleEventsOnlyBuiltForHookedTypes() throws Exception {
+        @Entity
+        @Include(rootLevel = false)
+        class Plain {
+            @Id
+            public long id;
+        }
+
+        @Entity
+        @Include(rootLevel = false)
+        class Hooked {
+            @Id
+            public long id;
+        }
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Plain.class);
+        dictionary.bindEntity(Hooked.class);
+
+        AtomicInteger reads = new AtomicInteger();
+        dictionary.bindTrigger(Hooked.class, READ, PRESECURITY,
+                (operation, phase, entity, scope, changes) -> reads.incrementAndGet(), false);
+
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .build();
+
+        RequestScope requestScope = new RequestScope(null, "/", NO_VERSION, null, null, null, null, null,
+                UUID.randomUUID(), settings);
+        RequestScope otherScope = new RequestScope(null, "/", NO_VERSION, null, null, null, null, null,
+                UUID.randomUUID(), settings);
+        assertSame(requestScope.getFilterDialect(), otherScope.getFilterDialect());
+
+        Field lifecycleEvents = RequestScope.class.getDeclaredField("lifecycleEvents");
+        lifecycleEvents.setAccessible(true);
+
+        // No buffer is created for events without hooks.
+        requestScope.publishLifecycleEvent(new PersistentResource<>(new Plain(), "1", requestScope), READ);
+        requestScope.runQueuedPreCommitTriggers();
+        assertNull(lifecycleEvents.get(requestScope));
+
+        requestScope.publishLifecycleEvent(new PersistentResource<>(new Hooked(), "2", requestScope), READ);
+        LifecycleEventBuffer events = (LifecycleEventBuffer) lifecycleEvents.get(requestScope);
+        assertFalse(events.isEmpty());
+        assertEquals(1, reads.get());
+    }
 }
@@ -6,6 +6,7 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -500,6 +501,91 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book3));
     }
 
+    @Test
+    public void testInMemorySortingKeepsRequestedPage() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1,
+                PaginationImpl.DEFAULT_PAGE_LIMIT, PaginationImpl.MAX_PAGE_LIMIT, true, false);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        when(wrappedTransaction.supportsFiltering(eq(scope), any(), eq(projection))).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsSorting(eq(scope), any(), eq(projection))).thenReturn(false);
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), eq(projection))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(books);
+
+        List<Object> loaded = (List<Object>) inMemoryStoreTransaction.loadObjects(
+                projection,
+                scope);
+
+        assertEquals(Arrays.asList(book2), loaded);
+        assertEquals(3L, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testInMemoryPaginationWithoutSorting() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1,
+                PaginationImpl.DEFAULT_PAGE_LIMIT, PaginationImpl.MAX_PAGE_LIMIT, null, false);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), eq(projection))).thenReturn(false);
+
+        List<Object> ordered = Arrays.asList(book1, book2, book3);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(ordered);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                projection,
+                scope);
+
+        assertEquals(Arrays.asList(book2), loaded);
+    }
+
+    @Test
+    public void testInMemoryKeysetPagination() {
+        PaginationImpl firstPage = new PaginationImpl(ClassType.of(Book.class), null, 2,
+                PaginationImpl.DEFAULT_PAGE_LIMIT, PaginationImpl.MAX_PAGE_LIMIT, true, false, "");
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(firstPage)
+                .build();
+
+        when(wrappedTransaction.supportsPagination(eq(scope), any(), any())).thenReturn(false);
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(Arrays.asList(book3, book1, book2));
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(projection, scope);
+
+        // Without sorting, the key is the id.
+        assertEquals(Arrays.asList(book1, book2), loaded);
+        assertEquals(3L, firstPage.getPageTotals());
+        assertNotNull(firstPage.getNextCursor());
+
+        PaginationImpl secondPage = new PaginationImpl(ClassType.of(Book.class), null, 2,
+                PaginationImpl.DEFAULT_PAGE_LIMIT, PaginationImpl.MAX_PAGE_LIMIT, true, false,
+                firstPage.getNextCursor());
+
+        loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(projection.copyOf()
+                .pagination(secondPage)
+                .build(), scope);
+
+        assertEquals(Arrays.asList(book3), loaded);
+        assertEquals(3L, secondPage.getPageTotals());
+        assertNull(secondPage.getNextCursor());
+    }
+
     @Test
     public void testInMemoryDataStore() {
         HashMapDataStore wrapped = new HashMapDataStore(Book.class.getPackage());
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.wrapped;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.ClassType;
+import example.Author;
+import example.Book;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class BatchedRelationshipTransactionTest {
+
+    private final Relationship authors = Relationship.builder()
+            .name("authors")
+            .projection(EntityProjection.builder().type(ClassType.of(Author.class)).build())
+            .build();
+
+    @Test
+    public void testSiblingsAreBatched() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+        BatchedRelationshipTransaction tx = new BatchedRelationshipTransaction(wrapped);
+
+        Book first = new Book();
+        Book second = new Book();
+        Author author = new Author();
+
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        relations.put(first, Collections.singletonList(author));
+        relations.put(second, Collections.emptyList());
+        when(wrapped.getRelations(eq(tx), any(), eq(authors), eq(scope))).thenReturn(relations);
+
+        tx.addSiblings(Arrays.asList(resource(first), resource(second)));
+
+        assertEquals(Collections.singletonList(author), tx.getRelation(tx, first, authors, scope));
+        assertEquals(Collections.emptyList(), tx.getRelation(tx, second, authors, scope));
+
+        verify(wrapped, times(1)).getRelations(eq(tx), any(), eq(authors), eq(scope));
+        verify(wrapped, times(0)).getRelation(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testClearedSiblingsAreNotBatched() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+        BatchedRelationshipTransaction tx = new BatchedRelationshipTransaction(wrapped);
+
+        Book first = new Book();
+        Book second = new Book();
+
+        tx.addSiblings(Arrays.asList(resource(first), resource(second)));
+        tx.clearSiblings();
+
+        tx.getRelation(tx, first, authors, scope);
+
+        verify(wrapped, times(0)).getRelations(any(), any(), any(), any());
+        verify(wrapped, times(1)).getRelation(tx, first, authors, scope);
+    }
+
+    private static PersistentResource resource(Object object) {
+        PersistentResource resource = mock(PersistentResource.class);
+        when(resource.getObject()).thenReturn(object);
+        return resource;
+    }
+}
@@ -982,6 +982,35 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertFalse(hasBinding(ClassType.of(String.class)));
     }
 
+    @Test
+    public void testBoundAccessors() throws Exception {
+        bindEntity(Book.class);
+        bindEntity(Author.class);
+        bindEntity(Editor.class);
+
+        EntityBinding binding = getEntityBinding(ClassType.of(Book.class));
+        assertTrue(binding.fieldsToGetters.containsKey("title"));
+        assertTrue(binding.fieldsToSetters.containsKey("title"));
+        assertTrue(binding.fieldsToGetters.containsKey("id"));
+        assertTrue(binding.fieldsToSetters.containsKey("id"));
+        assertEquals(EntityBinding.GETTER_TYPE, binding.fieldsToGetters.get("title").type());
+        assertEquals(EntityBinding.SETTER_TYPE, binding.fieldsToSetters.get("title").type());
+        assertEquals(String.class, binding.fieldsToSetterTypes.get("title"));
+
+        RequestScope scope = mock(RequestScope.class);
+        Book book = new Book();
+
+        setValue(book, "title", "Elide");
+        setValue(book, "id", "1234");
+        setValue(book, "publishDate", 10);
+
+        assertEquals("Elide", book.getTitle());
+        assertEquals(1234L, book.getId());
+        assertEquals("Elide", getValue(book, "title", scope));
+        assertEquals(1234L, getValue(book, "id", scope));
+        assertEquals(10L, getValue(book, "publishDate", scope));
+    }
+
     @Test
     public void testCoerce() throws Exception {
         bindEntity(CoerceBean.class);
@@ -246,6 +246,36 @@ public class OperatorTest {
         assertFalse(fn.test(book));
     }
 
+    @Test
+    public void predicateReusedAcrossEntitiesTest() throws Exception {
+        Author author1 = new Author();
+        author1.setName("Jon");
+        author1.setId(10L);
+        Author author2 = new Author();
+        author2.setName("Jane");
+        author2.setId(20L);
+        Author author3 = new Author();
+
+        fn = Operator.LT.contextualize(constructPath(Author.class, "id"), Collections.singletonList("15"), requestScope);
+        assertTrue(fn.test(author1));
+        assertFalse(fn.test(author2));
+        assertFalse(fn.test(author3));
+        assertTrue(fn.test(author1));
+
+        fn = Operator.INFIX_CASE_INSENSITIVE.contextualize(constructPath(Author.class, "name"), Collections.singletonList("J"), requestScope);
+        assertTrue(fn.test(author1));
+        assertTrue(fn.test(author2));
+        assertFalse(fn.test(author3));
+
+        Book book = new Book();
+        book.setAuthors(Arrays.asList(author1, author2));
+        Book emptyBook = new Book();
+        fn = Operator.NOT.contextualize(constructPath(Book.class, "authors.name"), Arrays.asList("Jane"), requestScope);
+        assertFalse(fn.test(book));
+        assertTrue(fn.test(emptyBook));
+        assertFalse(fn.test(book));
+    }
+
     @Test
     public void memberOfTest() throws Exception {
         author = new Author();
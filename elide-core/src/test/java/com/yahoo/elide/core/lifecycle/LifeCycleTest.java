@@ -16,6 +16,7 @@ import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.P
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -42,6 +43,7 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.TestDictionary;
 import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
@@ -49,13 +51,24 @@ import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.TestUser;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.type.ClassType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableSet;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.validation.ConstraintViolationException;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
@@ -193,7 +206,7 @@ public class LifeCycleTest {
         when(tx.createNewObject(ClassType.of(FieldTestModel.class))).thenReturn(mockModel);
 
         ElideResponse response = elide.post(baseUrl, "/testModel", body, null, NO_VERSION);
-        assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, response.getResponseCode());
+        assertEquals(HttpStatus.SC_LOCKED, response.getResponseCode());
         assertEquals(
                 "{\"errors\":[{\"detail\":\"Unexpected exception caught\"}]}",
                 response.getBody());
@@ -408,6 +421,133 @@ public class LifeCycleTest {
         verify(tx).close();
     }
 
+    @Test
+    public void testElideGetIncludedRelationsLoadedTogether() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel first = mock(FieldTestModel.class);
+        FieldTestModel second = mock(FieldTestModel.class);
+        FieldTestModel child = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(tx.getRelations(any(), any(), isA(Relationship.class), isA(RequestScope.class))).thenAnswer(invocation -> {
+            Map<Object, Object> relations = new IdentityHashMap<>();
+            ((Collection<Object>) invocation.getArgument(1)).forEach(entity ->
+                    relations.put(entity, ImmutableSet.of(child)));
+            return relations;
+        });
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.put("include", Collections.singletonList("models"));
+        ElideResponse response = elide.get(baseUrl, "/testModel", queryParams, null, NO_VERSION);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+
+        // The included relation of both resources is loaded with a single call to the store.
+        verify(tx, times(1)).getRelations(any(), any(), isA(Relationship.class), isA(RequestScope.class));
+
+        verify(tx).preCommit(any());
+        verify(tx).flush(any());
+        verify(tx).commit(any());
+        verify(tx).close();
+    }
+
+    @Test
+    public void testElideGetStreamedCollection() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel mockModel = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(mockModel));
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicInteger streamedCode = new AtomicInteger();
+        ElideResponse response = elide.get(baseUrl, "/testModel", queryParams, Collections.emptyMap(), null,
+                NO_VERSION, UUID.randomUUID(), (responseCode, output) -> {
+                    streamedCode.set(responseCode);
+                    output.write(body);
+                });
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(HttpStatus.SC_OK, streamedCode.get());
+        assertNull(response.getBody());
+
+        JsonNode document = new ObjectMapper().readTree(body.toByteArray());
+        assertEquals(1, document.get("data").size());
+        assertEquals("testModel", document.get("data").get(0).get("type").asText());
+
+        // Resources read while streaming still go through every phase.
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(PRESECURITY));
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(PRECOMMIT));
+        verify(mockModel, times(1)).classCallback(eq(READ), eq(POSTCOMMIT));
+        verify(mockModel, times(1)).attributeCallback(eq(READ), eq(PRESECURITY), any());
+        verify(mockModel, times(1)).attributeCallback(eq(READ), eq(PRECOMMIT), any());
+        verify(mockModel, times(1)).attributeCallback(eq(READ), eq(POSTCOMMIT), any());
+
+        verify(tx).preCommit(any());
+        verify(tx).flush(any());
+        verify(tx).commit(any());
+        verify(tx).close();
+    }
+
+    @Test
+    public void testElideGetStreamedCollectionFailure() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        FieldTestModel mockModel = mock(FieldTestModel.class);
+
+        Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
+
+        // The store fails after the first resource has been written.
+        Iterable<Object> failing = () -> new Iterator<Object>() {
+            private boolean returned;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Object next() {
+                if (returned) {
+                    throw new TransactionException(new IOException("Connection lost"));
+                }
+                returned = true;
+                return mockModel;
+            }
+        };
+
+        when(store.beginReadTransaction()).thenCallRealMethod();
+        when(store.beginTransaction()).thenReturn(tx);
+        when(tx.loadObjects(isA(EntityProjection.class), isA(RequestScope.class))).thenReturn(failing);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicInteger streamedCode = new AtomicInteger();
+        ElideResponse response = elide.get(baseUrl, "/testModel", queryParams, Collections.emptyMap(), null,
+                NO_VERSION, UUID.randomUUID(), (responseCode, output) -> {
+                    streamedCode.set(responseCode);
+                    output.write(body);
+                });
+        assertEquals(HttpStatus.SC_OK, streamedCode.get());
+        assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, response.getResponseCode());
+
+        // The body is cut short rather than closed off as a valid document.
+        assertThrows(JsonProcessingException.class, () -> new ObjectMapper().readTree(body.toByteArray()));
+
+        verify(tx, never()).commit(any());
+        verify(tx).close();
+    }
+
     @Test
     public void testElidePatch() throws Exception {
         DataStore store = mock(DataStore.class);
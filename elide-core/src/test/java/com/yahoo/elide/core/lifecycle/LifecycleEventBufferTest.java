@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.lifecycle;
+
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.CREATE;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.Operation.UPDATE;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRECOMMIT;
+import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.LifeCycleHookBinding;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+public class LifecycleEventBufferTest {
+
+    @Entity
+    @Include(rootLevel = false)
+    public static class Model {
+        @Id
+        public long id;
+    }
+
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+    private LifecycleEventBuffer buffer;
+    private List<Object> created;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Model.class);
+        scope = new RequestScope(null, "/", NO_VERSION, null, null, null, null, null, UUID.randomUUID(),
+                new ElideSettingsBuilder(null).withEntityDictionary(dictionary).build());
+        buffer = new LifecycleEventBuffer(dictionary);
+        created = new ArrayList<>();
+    }
+
+    @Test
+    public void testEventsAreDeduplicated() {
+        dictionary.bindTrigger(Model.class, CREATE, PRECOMMIT,
+                (operation, phase, entity, requestScope, changes) -> created.add(entity), false);
+
+        PersistentResource<Model> resource = newResource(1);
+        buffer.add(event(CREATE, resource));
+        buffer.add(event(CREATE, resource));
+        buffer.add(event(UPDATE, resource));
+
+        buffer.dispatch(CREATE, PRECOMMIT);
+
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    public void testEventsAddedByHooksAreDispatchedOnce() {
+        PersistentResource<Model> second = newResource(2);
+        dictionary.bindTrigger(Model.class, CREATE, PRECOMMIT, (operation, phase, entity, requestScope, changes) -> {
+            created.add(entity);
+            buffer.add(event(CREATE, second));
+        }, false);
+
+        buffer.add(event(CREATE, newResource(1)));
+        buffer.dispatch(CREATE, PRECOMMIT);
+        assertEquals(2, created.size());
+
+        // A dispatched phase keeps receiving later events of its operation.
+        buffer.add(event(CREATE, newResource(3)));
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    public void testPreSecurityHooksRunWhenEventsAreAdded() {
+        dictionary.bindTrigger(Model.class, UPDATE, PRESECURITY, (operation, phase, entity, requestScope, changes) -> {
+            throw new IllegalStateException();
+        }, false);
+
+        assertThrows(IllegalStateException.class, () -> buffer.add(event(UPDATE, newResource(1))));
+    }
+
+    @Test
+    public void testDispatchRethrowsHookFailuresAfterAllEvents() {
+        dictionary.bindTrigger(Model.class, CREATE, PRECOMMIT, (operation, phase, entity, requestScope, changes) -> {
+            created.add(entity);
+            throw new IllegalStateException();
+        }, false);
+
+        buffer.add(event(CREATE, newResource(1)));
+        buffer.add(event(CREATE, newResource(2)));
+
+        assertThrows(IllegalStateException.class, () -> buffer.dispatch(CREATE, PRECOMMIT));
+        assertEquals(2, created.size());
+    }
+
+    private PersistentResource<Model> newResource(long id) {
+        Model model = new Model();
+        model.id = id;
+        return new PersistentResource<>(model, String.valueOf(id), scope);
+    }
+
+    private static CRUDEvent event(LifeCycleHookBinding.Operation operation, PersistentResource<?> resource) {
+        return new CRUDEvent(operation, resource, PersistentResource.CLASS_NO_FIELD, Optional.empty());
+    }
+}
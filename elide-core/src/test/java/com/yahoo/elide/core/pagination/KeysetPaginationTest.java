@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.ClassType;
+import example.Book;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class KeysetPaginationTest {
+
+    private final EntityDictionary dictionary;
+    private final RequestScope scope;
+
+    public KeysetPaginationTest() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+    }
+
+    @Test
+    public void testCursorRoundTrip() {
+        EntityProjection firstPage = projection("");
+        Map<Path, Sorting.SortOrder> key = KeysetPagination.getKey(firstPage, dictionary);
+        assertEquals(2, key.size());
+
+        Book first = new Book();
+        first.setId(1);
+        first.setTitle("A");
+        Book last = new Book();
+        last.setId(5);
+        last.setTitle("B");
+
+        // The first page has no seek predicate.
+        assertNull(KeysetPagination.seek(firstPage, key).getFilterExpression());
+
+        // A short page is the last page.
+        assertNull(KeysetPagination.getNextCursor(Arrays.asList(first, last), 3, key, scope));
+
+        String cursor = KeysetPagination.getNextCursor(Arrays.asList(first, last), 2, key, scope);
+        EntityProjection nextPage = KeysetPagination.seek(projection(cursor), key);
+
+        // title > 'B' OR (title = 'B' AND id > 5)
+        OrFilterExpression seek = (OrFilterExpression) nextPage.getFilterExpression();
+        FilterPredicate titleAfter = (FilterPredicate) seek.getLeft();
+        assertEquals(Operator.GT, titleAfter.getOperator());
+        assertEquals(Collections.singletonList("B"), titleAfter.getValues());
+
+        AndFilterExpression sameTitle = (AndFilterExpression) seek.getRight();
+        FilterPredicate titleEqual = (FilterPredicate) sameTitle.getLeft();
+        FilterPredicate idAfter = (FilterPredicate) sameTitle.getRight();
+        assertEquals(Operator.IN, titleEqual.getOperator());
+        assertEquals(Collections.singletonList("B"), titleEqual.getValues());
+        assertEquals(Operator.GT, idAfter.getOperator());
+        assertEquals(Collections.singletonList(5L), idAfter.getValues());
+
+        assertEquals(key, nextPage.getSorting().getSortingPaths());
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        EntityProjection projection = projection("not a cursor");
+        Map<Path, Sorting.SortOrder> key = KeysetPagination.getKey(projection, dictionary);
+
+        assertThrows(InvalidValueException.class, () -> KeysetPagination.seek(projection, key));
+    }
+
+    private EntityProjection projection(String after) {
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put("title", Sorting.SortOrder.asc);
+
+        return EntityProjection.builder()
+                .type(Book.class)
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .pagination(new PaginationImpl(ClassType.of(Book.class), null, 2,
+                        PaginationImpl.DEFAULT_PAGE_LIMIT, PaginationImpl.MAX_PAGE_LIMIT, null, false, after))
+                .build();
+    }
+}
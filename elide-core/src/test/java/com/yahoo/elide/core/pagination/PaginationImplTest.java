@@ -235,4 +235,28 @@ public class PaginationImplTest {
         assertEquals(0, pageData.getOffset());
         assertEquals(10, pageData.getLimit());
     }
+
+    @Test
+    public void shouldParseQueryParamsForKeysetPagination() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[size]", "10");
+        queryParams.add("page[after]", "cursor");
+
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                Optional.of(queryParams), elideSettings);
+        assertEquals("cursor", pageData.getAfter());
+        assertEquals(0, pageData.getOffset());
+        assertEquals(10, pageData.getLimit());
+        assertFalse(pageData.isDefaultInstance());
+    }
+
+    @Test
+    public void shouldThrowExceptionForKeysetPaginationWithOffset() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[offset]", "10");
+        queryParams.add("page[after]", "cursor");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                Optional.of(queryParams), elideSettings));
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.yahoo.elide.core.security.checks.prefab.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+public class UserCheckCacheTest {
+
+    private static class RoleUser extends TestUser {
+        private final String role;
+
+        private RoleUser(String name, String role) {
+            super(name);
+            this.role = role;
+        }
+
+        @Override
+        public boolean isInRole(String role) {
+            return this.role.equals(role);
+        }
+    }
+
+    private static class CountingCheck extends UserCheck {
+        private final boolean cacheable;
+        private int calls = 0;
+
+        private CountingCheck(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public boolean ok(User user) {
+            calls++;
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+
+    private UserCheckCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new UserCheckCache(100, 1, TimeUnit.HOURS);
+    }
+
+    @Test
+    public void testCacheableCheckIsEvaluatedOncePerUserAndVersion() {
+        CountingCheck check = new CountingCheck(true);
+
+        assertTrue(cache.ok(check, "counting", new TestUser("alice"), "1.0"));
+        assertTrue(cache.ok(check, "counting", new TestUser("alice"), "1.0"));
+        assertEquals(1, check.calls);
+
+        cache.ok(check, "counting", new TestUser("alice"), "2.0");
+        cache.ok(check, "counting", new TestUser("bob"), "1.0");
+        assertEquals(3, check.calls);
+    }
+
+    @Test
+    public void testUncacheableChecksAndAnonymousUsersAreNotCached() {
+        CountingCheck uncacheable = new CountingCheck(false);
+        cache.ok(uncacheable, "counting", new TestUser("alice"), "");
+        cache.ok(uncacheable, "counting", new TestUser("alice"), "");
+        assertEquals(2, uncacheable.calls);
+
+        CountingCheck cacheable = new CountingCheck(true);
+        cache.ok(cacheable, "counting", new User(null), "");
+        cache.ok(cacheable, "counting", new User(null), "");
+        assertEquals(2, cacheable.calls);
+    }
+
+    @Test
+    public void testInvalidation() {
+        CountingCheck check = new CountingCheck(true);
+
+        cache.ok(check, "counting", new TestUser("alice"), "");
+        cache.ok(check, "counting", new TestUser("bob"), "");
+        assertEquals(2, check.calls);
+
+        cache.invalidateUser("alice");
+        cache.ok(check, "counting", new TestUser("alice"), "");
+        cache.ok(check, "counting", new TestUser("bob"), "");
+        assertEquals(3, check.calls);
+
+        cache.invalidateCheck("counting");
+        cache.ok(check, "counting", new TestUser("bob"), "");
+        assertEquals(4, check.calls);
+
+        cache.invalidateAll();
+        cache.ok(check, "counting", new TestUser("alice"), "");
+        assertEquals(5, check.calls);
+    }
+
+    @Test
+    public void testRoleChecksAreCachedPerRole() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        UserCheck admin = new Role.RoleMemberCheck("admin");
+        UserCheck user = new Role.RoleMemberCheck("user");
+        dictionary.addRoleCheck("admin", admin);
+        dictionary.addRoleCheck("user", user);
+
+        String adminIdentifier = dictionary.getCheckIdentifier(admin);
+        String userIdentifier = dictionary.getCheckIdentifier(user);
+        assertEquals("admin", adminIdentifier);
+        assertEquals("user", userIdentifier);
+        assertTrue(admin.isCacheable());
+
+        RoleUser alice = new RoleUser("alice", "user");
+        for (int i = 0; i < 2; i++) {
+            assertFalse(cache.ok(admin, adminIdentifier, alice, ""));
+            assertTrue(cache.ok(user, userIdentifier, alice, ""));
+        }
+    }
+}
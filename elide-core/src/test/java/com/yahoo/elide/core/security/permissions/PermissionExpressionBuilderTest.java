@@ -7,6 +7,9 @@ package com.yahoo.elide.core.security.permissions;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Include;
@@ -15,15 +18,21 @@ import com.yahoo.elide.annotation.UpdatePermission;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.EntityPermissions;
 import com.yahoo.elide.core.dictionary.TestDictionary;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+import com.yahoo.elide.core.type.ClassType;
 import org.junit.jupiter.api.BeforeEach;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.persistence.Entity;
@@ -127,6 +136,93 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testCompiledTemplatesInstantiateChecksPerBinding() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "user has all access AND user has no access")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        ParseTree permissions = dictionary.getPermissionsForClass(ClassType.of(Model.class), ReadPermission.class);
+        PermissionExpressionTemplate template = dictionary.getPermissionTemplate(permissions);
+        assertSame(template, dictionary.getPermissionTemplate(permissions));
+
+        List<Check> first = new ArrayList<>();
+        List<Check> second = new ArrayList<>();
+        template.bind(check -> {
+            first.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+        template.bind(check -> {
+            second.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+
+        // Check instances are not shared between requests (or threads).
+        assertEquals(2, first.size());
+        assertNotSame(first.get(0), second.get(0));
+        assertNotSame(first.get(1), second.get(1));
+        assertEquals(first.get(0).getClass(), second.get(0).getClass());
+        assertEquals(first.get(1).getClass(), second.get(1).getClass());
+    }
+
+    @Test
+    public void testCompiledTemplatesShareRoleChecks() {
+        Role.RoleMemberCheck admin = new Role.RoleMemberCheck("admin");
+        dictionary.addRoleCheck("admin", admin);
+
+        List<Check> bound = new ArrayList<>();
+        PermissionExpressionTemplate template = compile("admin");
+        template.bind(check -> {
+            bound.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+        template.bind(check -> {
+            bound.add(check);
+            return OrExpression.SUCCESSFUL_EXPRESSION;
+        });
+
+        assertSame(admin, bound.get(0));
+        assertSame(admin, bound.get(1));
+    }
+
+    @Test
+    public void testConstantTemplateResults() {
+        assertEquals(ExpressionResult.FAIL, compile("user has all access AND user has no access").getConstantResult());
+        assertEquals(ExpressionResult.PASS, compile("user has all access OR user has no access").getConstantResult());
+        assertEquals(ExpressionResult.PASS, compile("NOT user has no access").getConstantResult());
+        assertNull(compile("user has all access AND Prefab.Collections.AppendOnly").getConstantResult());
+    }
+
+    @Test
+    public void testUserCheckFieldExpressionShortCircuitsConstantPass() {
+        @Entity
+        @Include(rootLevel = false)
+        @UpdatePermission(expression = "user has no access")
+        class Model {
+            @Id
+            private long id;
+            @UpdatePermission(expression = "user has all access OR user has no access")
+            private int foo;
+            @UpdatePermission(expression = "user has all access AND user has no access")
+            private int bar;
+        }
+        dictionary.bindEntity(Model.class);
+
+        RequestScope requestScope = newResource(new Model(), Model.class).getRequestScope();
+
+        assertSame(OrExpression.SUCCESSFUL_EXPRESSION, builder.buildUserCheckFieldExpressions(
+                ClassType.of(Model.class), requestScope, UpdatePermission.class, "foo"));
+        assertEquals(ExpressionResult.FAIL, builder.buildUserCheckFieldExpressions(
+                ClassType.of(Model.class), requestScope, UpdatePermission.class, "bar")
+                .evaluate(Expression.EvaluationMode.USER_CHECKS_ONLY));
+    }
+
+    private PermissionExpressionTemplate compile(String expression) {
+        return PermissionExpressionTemplate.compile(EntityPermissions.parseExpression(expression), dictionary);
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         RequestScope requestScope = new RequestScope(null, null, NO_VERSION, null, null, null, null, null, UUID.randomUUID(), elideSettings);
         return new PersistentResource<>(obj, requestScope.getUUIDFor(obj), requestScope);
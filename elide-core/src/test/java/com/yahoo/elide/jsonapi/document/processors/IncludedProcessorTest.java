@@ -7,11 +7,16 @@ package com.yahoo.elide.jsonapi.document.processors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.TestRequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.BatchedRelationshipTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.TestDictionary;
 import com.yahoo.elide.core.security.TestUser;
@@ -28,6 +33,7 @@ import org.mockito.Answers;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -196,6 +202,37 @@ public class IncludedProcessorTest {
                 "Included Processor added multiple nested requested resource collections from 'include' query param");
     }
 
+    @Test
+    public void testExecuteNestedRelationsOneLevelAtATime() throws Exception {
+        TestRequestScope batchedScope = new TestRequestScope(new BatchedRelationshipTransaction(mockTransaction),
+                new TestUser("1"), dictionary);
+
+        Set<PersistentResource> parents = new LinkedHashSet<>();
+        parents.add(new PersistentResource<>(parentRecord1.getObject(), parentRecord1.getId(), batchedScope));
+        parents.add(new PersistentResource<>(parentRecord3.getObject(), parentRecord3.getId(), batchedScope));
+
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.put(INCLUDE, Collections.singletonList("children.friends"));
+        batchedScope.setQueryParams(queryParams);
+        includedProcessor.execute(jsonApiDocument, parents, Optional.of(queryParams));
+
+        Set<Resource> expectedIncluded =
+                Sets.newHashSet(
+                        childRecord1.toResource(),
+                        childRecord2.toResource(),
+                        childRecord3.toResource(),
+                        childRecord4.toResource()
+                );
+        assertEquals(expectedIncluded, new HashSet<>(jsonApiDocument.getIncluded()));
+
+        // Each level of the path is loaded for all of its resources with a single call.
+        verify(mockTransaction, times(1)).getRelations(any(), argThat(entities -> entities.size() == 2),
+                argThat(relationship -> relationship.getName().equals("children")), any());
+        verify(mockTransaction, times(1)).getRelations(any(), argThat(entities -> entities.size() == 3),
+                argThat(relationship -> relationship.getName().equals("friends")), any());
+    }
+
     @Test
     public void testIncludeForbiddenRelationship() {
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponseStream;
+import com.yahoo.elide.ElideSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Tests the JAX-RS streaming path of {@link JsonApiEndpoint}.
+ */
+public class JsonApiEndpointTest {
+
+    private Elide elide;
+    private UriInfo uriInfo;
+    private HttpHeaders headers;
+    private SecurityContext securityContext;
+    private ExecutorService executor;
+
+    // Failure of the executor side of the stream, if any.
+    private CompletableFuture<Throwable> sendFailure;
+
+    @BeforeEach
+    public void setup() {
+        ElideSettings settings = mock(ElideSettings.class);
+        when(settings.getBaseUrl()).thenReturn("http://localhost/");
+
+        elide = mock(Elide.class);
+        when(elide.getElideSettings()).thenReturn(settings);
+
+        uriInfo = mock(UriInfo.class);
+        when(uriInfo.getQueryParameters()).thenReturn(new MultivaluedHashMap<>());
+        headers = mock(HttpHeaders.class);
+        when(headers.getRequestHeaders()).thenReturn(new MultivaluedHashMap<>());
+        securityContext = mock(SecurityContext.class);
+
+        executor = Executors.newSingleThreadExecutor();
+        sendFailure = new CompletableFuture<>();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBodyIsWrittenIntoContainerStream() throws Exception {
+        respondWith(null);
+        JsonApiEndpoint endpoint = new JsonApiEndpoint(elide, executor, Duration.ofSeconds(10));
+
+        Response response = endpoint.get("book", uriInfo, headers, securityContext);
+        assertEquals(200, response.getStatus());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        assertEquals("{\"data\":[]}", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBodyWriteIsNotBoundedByTimeout() throws Exception {
+        respondWith(null, 200);
+        JsonApiEndpoint endpoint = new JsonApiEndpoint(elide, executor, Duration.ofMillis(50));
+
+        Response response = endpoint.get("book", uriInfo, headers, securityContext);
+        assertEquals(200, response.getStatus());
+
+        // The body takes longer to write than the timeout, but the container keeps waiting for it.
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        assertEquals("{\"data\":[]}", new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamFailsWhenContainerNeverWrites() throws Exception {
+        respondWith(null);
+        JsonApiEndpoint endpoint = new JsonApiEndpoint(elide, executor, Duration.ofMillis(50));
+
+        Response response = endpoint.get("book", uriInfo, headers, securityContext);
+        assertEquals(200, response.getStatus());
+
+        // The container never asks for the body: the executor gives up rather than holding the transaction open.
+        assertTrue(sendFailure.get(10, TimeUnit.SECONDS) instanceof IOException);
+
+        // A container which asks for the body after that fails too instead of waiting for it.
+        assertThrows(IOException.class,
+                () -> ((StreamingOutput) response.getEntity()).write(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testRequestFailsWhenResponseCodeNeverArrives() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        respondWith(release);
+        JsonApiEndpoint endpoint = new JsonApiEndpoint(elide, executor, Duration.ofMillis(50));
+
+        assertThrows(UncheckedIOException.class, () -> endpoint.get("book", uriInfo, headers, securityContext));
+
+        // The request thread has given up: the late response is rejected so that the request is aborted.
+        release.countDown();
+        assertTrue(sendFailure.get(10, TimeUnit.SECONDS) instanceof IOException);
+    }
+
+    private void respondWith(CountDownLatch latch) throws IOException {
+        respondWith(latch, 0);
+    }
+
+    /**
+     * Stubs a streamed GET which sends a JSON-API body once the latch (if any) is released.  The body takes the
+     * given number of milliseconds to write.
+     */
+    private void respondWith(CountDownLatch latch, long writeMillis) throws IOException {
+        Answer<Object> answer = invocation -> {
+            if (latch != null) {
+                latch.await(10, TimeUnit.SECONDS);
+            }
+            ElideResponseStream stream = invocation.getArgument(7);
+            try {
+                stream.send(200, output -> {
+                    try {
+                        Thread.sleep(writeMillis);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    output.write("{\"data\":[]}".getBytes(StandardCharsets.UTF_8));
+                });
+            } catch (IOException | RuntimeException e) {
+                sendFailure.complete(e);
+                throw e;
+            }
+            return null;
+        };
+        when(elide.get(any(), any(), any(), any(), any(), any(), any(), any(ElideResponseStream.class)))
+                .thenAnswer(answer);
+    }
+}
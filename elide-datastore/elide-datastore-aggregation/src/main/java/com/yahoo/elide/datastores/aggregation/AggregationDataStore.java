@@ -20,6 +20,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Argument;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Column;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
+import com.yahoo.elide.datastores.aggregation.query.Queryable;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromSubquery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromTable;
 import lombok.Builder;
@@ -91,6 +92,17 @@ public class AggregationDataStore implements DataStore {
                         new ArgumentType(arg.getName(), ValueType.getType(arg.getType()), arg.getDefaultValue()));
             }
         }
+
+        if (cache != null) {
+            /* Evict the cached results of a table as soon as its version changes */
+            queryEngine.addTableVersionListener((table, staleVersion) -> {
+                if (table instanceof Queryable) {
+                    String prefix = AggregationDataStoreTransaction.getCacheKeyPrefix(
+                            staleVersion == null ? "" : staleVersion, (Queryable) table);
+                    cache.invalidate(key -> key.toString().startsWith(prefix));
+                }
+            });
+        }
     }
 
     @Override
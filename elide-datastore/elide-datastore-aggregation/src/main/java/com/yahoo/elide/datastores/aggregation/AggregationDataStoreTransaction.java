@@ -5,13 +5,16 @@
  */
 package com.yahoo.elide.datastores.aggregation;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
@@ -19,13 +22,19 @@ import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.filter.visitor.MatchesTemplateVisitor;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
+import com.yahoo.elide.datastores.aggregation.query.CompiledQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.query.Queryable;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import lombok.ToString;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Transaction handler for {@link AggregationDataStore}.
@@ -64,7 +73,8 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
 
     @Override
     public void commit(RequestScope scope) {
-        queryEngineTransaction.close();
+        // Nothing to commit.  Query results may still be streaming, so the query engine transaction
+        // is only released when this transaction is closed.
     }
 
     @Override
@@ -80,30 +90,66 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         try {
             queryLogger.acceptQuery(scope.getRequestId(), scope.getUser(), scope.getHeaders(),
                     scope.getApiVersion(), scope.getQueryParams(), scope.getPath());
-            Query query = buildQuery(entityProjection, scope);
+            // Keyset pages select the rows after the cursor rather than skipping an offset.
+            Map<Path, Sorting.SortOrder> keysetKey = null;
+            EntityProjection queryProjection = entityProjection;
+            if (KeysetPagination.isKeyset(entityProjection.getPagination())) {
+                // Rows are unique per group and their ids are only row numbers, so the key is the sorting alone.
+                // Clients must sort by every dimension of the query to page through all rows.
+                keysetKey = KeysetPagination.getSortingKey(entityProjection);
+                if (keysetKey.isEmpty()) {
+                    throw new BadRequestException("Keyset pagination requires sorting");
+                }
+                queryProjection = KeysetPagination.seek(entityProjection, keysetKey);
+            }
+
+            Query query = buildQuery(queryProjection, scope);
+            if (keysetKey != null) {
+                validateKeyset(query, keysetKey);
+            }
             Table table = (Table) query.getSource();
             if (cache != null && !query.isBypassingCache()) {
                 String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
                 tableVersion = tableVersion == null ? "" : tableVersion;
 
-                cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
+                cacheKey = getCacheKey(tableVersion, query);
                 result = cache.get(cacheKey);
             }
 
             boolean isCached = result != null;
-            List<String> queryText = queryEngine.explain(query);
-            queryLogger.processQuery(scope.getRequestId(), query, queryText, isCached);
+
+            // The query is translated once and the same compiled form is logged and executed.
+            CompiledQuery compiledQuery = queryEngine.compile(query);
+            queryLogger.processQuery(scope.getRequestId(), query, compiledQuery.explain(), isCached);
             if (result == null) {
-                result = queryEngine.executeQuery(query, queryEngineTransaction);
                 if (cacheKey != null) {
-                    cache.put(cacheKey, result);
+                    // Identical queries which miss the cache at the same time wait for a single execution.
+                    result = cache.computeIfAbsent(cacheKey, query, ignored -> {
+                        QueryResult loaded = queryEngine.executeQuery(compiledQuery, queryEngineTransaction);
+
+                        // Query results may be streamed from the database, they must be copied into memory
+                        // before they can be cached and served again.
+                        return QueryResult.builder()
+                                .data(Lists.newArrayList(loaded.getData()))
+                                .pageTotals(loaded.getPageTotals())
+                                .build();
+                    });
+                } else {
+                    result = queryEngine.executeQuery(compiledQuery, queryEngineTransaction);
                 }
             }
             if (entityProjection.getPagination() != null && entityProjection.getPagination().returnPageTotals()) {
                 entityProjection.getPagination().setPageTotals(result.getPageTotals());
             }
-            response = new QueryResponse(HttpStatus.SC_OK, result.getData(), null);
-            return result.getData();
+            Iterable data = result.getData();
+            if (keysetKey != null) {
+                // The next cursor comes from the last row, so streamed results are copied into memory first.
+                data = Lists.newArrayList(data);
+                entityProjection.getPagination().setNextCursor(KeysetPagination.getNextCursor(
+                        data, entityProjection.getPagination().getLimit(), keysetKey, scope));
+            }
+            response = new QueryResponse(HttpStatus.SC_OK, data, null);
+            return data;
         } catch (HttpStatusException e) {
             response = new QueryResponse(e.getStatus(), null, e.getMessage());
             throw e;
@@ -120,6 +166,26 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         queryEngineTransaction.close();
     }
 
+    /**
+     * Builds the query cache key of a query.  Keys start with {@link #getCacheKeyPrefix} of the query table.
+     * @param tableVersion The version of the query table.
+     * @param query The query.
+     * @return The cache key.
+     */
+    static String getCacheKey(String tableVersion, Query query) {
+        return tableVersion + ';' + QueryKeyExtractor.extractKey(query);
+    }
+
+    /**
+     * The prefix of the query cache keys of all the queries of a table version.
+     * @param tableVersion The version of the table.
+     * @param table The table.
+     * @return The cache key prefix.
+     */
+    static String getCacheKeyPrefix(String tableVersion, Queryable table) {
+        return tableVersion + ';' + table.getAlias() + ';';
+    }
+
     @VisibleForTesting
     Query buildQuery(EntityProjection entityProjection, RequestScope scope) {
         Table table = metaDataStore.getTable(
@@ -147,6 +213,28 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         return query;
     }
 
+    /**
+     * Verifies that a keyset key identifies a single row: rows are unique per group, so the key must cover
+     * every dimension and time dimension of the query.  Otherwise, rows sharing the key of the last row of a page
+     * would be skipped.
+     * @param query The query.
+     * @param key The keyset key.
+     */
+    private static void validateKeyset(Query query, Map<Path, Sorting.SortOrder> key) {
+        Set<String> keyFields = key.keySet().stream()
+                .map(path -> path.lastElement().map(Path.PathElement::getFieldName).orElse(null))
+                .collect(Collectors.toSet());
+
+        query.getAllDimensionProjections().stream()
+                .map(ColumnProjection::getName)
+                .filter(name -> !keyFields.contains(name))
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new BadRequestException("Keyset pagination requires sorting by every dimension: "
+                            + name + " is missing");
+                });
+    }
+
     @Override
     public void cancel(RequestScope scope) {
         queryLogger.cancelQuery(scope.getRequestId());
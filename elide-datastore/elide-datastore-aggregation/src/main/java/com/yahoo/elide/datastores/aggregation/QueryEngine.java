@@ -17,6 +17,7 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Metric;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
+import com.yahoo.elide.datastores.aggregation.query.CompiledQuery;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
@@ -25,6 +26,8 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 /**
  * A {@link QueryEngine} is an abstraction that an AggregationDataStore leverages to run analytic queries (OLAP style)
@@ -71,6 +74,11 @@ public abstract class QueryEngine {
 
     protected EntityDictionary metadataDictionary;
 
+    /**
+     * Listeners notified with the table and its previous version when a table version changes.
+     */
+    protected final List<BiConsumer<Table, String>> tableVersionListeners = new CopyOnWriteArrayList<>();
+
     protected QueryEngine() {
     }
     /**
@@ -172,6 +180,28 @@ public abstract class QueryEngine {
      */
     public abstract QueryResult executeQuery(Query query, Transaction transaction);
 
+    /**
+     * Executes a {@link Query} previously compiled by {@link #compile(Query)}.  Engines which support compilation
+     * should override this to avoid translating the query again.
+     *
+     * @param compiledQuery The compiled query
+     * @param transaction transaction
+     * @return query results
+     */
+    public QueryResult executeQuery(CompiledQuery compiledQuery, Transaction transaction) {
+        return executeQuery(compiledQuery.getQuery(), transaction);
+    }
+
+    /**
+     * Translates a {@link Query} into the native query (or queries) this engine will run.
+     *
+     * @param query The query customized for a particular persistent storage or storage client.
+     * @return The compiled query.
+     */
+    public CompiledQuery compile(Query query) {
+        return new CompiledQuery(query, explain(query));
+    }
+
     /**
      * Get a serial number or other token indicating the version of the data in the table.
      * No particular semantics are required, though it must change if the data changes.
@@ -182,6 +212,16 @@ public abstract class QueryEngine {
      */
     public abstract String getTableVersion(Table table, Transaction transaction);
 
+    /**
+     * Registers a listener which is notified when the engine observes that the version of a table changed,
+     * for example to evict query results of the previous version from a cache.  Engines which do not track
+     * table versions never notify the listeners.
+     * @param listener Accepts the table and its previous version.
+     */
+    public void addTableVersionListener(BiConsumer<Table, String> listener) {
+        tableVersionListeners.add(listener);
+    }
+
     /**
      * Returns the actual query string(s) that would be executed for the input {@link Query}.
      *
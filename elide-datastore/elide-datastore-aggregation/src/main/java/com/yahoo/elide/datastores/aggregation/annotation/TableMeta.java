@@ -54,4 +54,11 @@ public @interface TableMeta {
      * @return arguments for the table
      */
     ArgumentDefinition[] arguments() default {};
+
+    /**
+     * How long the query results of this table are cached, overriding the default expiration of the
+     * query cache.  Negative values use the default expiration.
+     * @return expiration in minutes
+     */
+    long cacheExpirationMinutes() default -1;
 }
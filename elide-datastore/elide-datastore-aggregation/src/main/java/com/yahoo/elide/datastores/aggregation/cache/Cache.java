@@ -5,8 +5,12 @@
  */
 package com.yahoo.elide.datastores.aggregation.cache;
 
+import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
  * A cache for {@link QueryResult}s.
  */
@@ -26,4 +30,59 @@ public interface Cache {
      * @param result the result to cache with the key
      */
     void put(Object key, QueryResult result);
+
+    /**
+     * Insert the results of a query into cache.  Implementations may use the query to estimate the size of
+     * the results or to apply the expiration of its table.
+     *
+     * @param key    the key to associate with the query
+     * @param result the result to cache with the key
+     * @param query  the query which produced the result, or null if unknown
+     */
+    default void put(Object key, QueryResult result, Query query) {
+        put(key, result);
+    }
+
+    /**
+     * Evict the entries whose keys match a predicate.  Implementations which cannot enumerate their keys
+     * may ignore this, as entries are keyed by table version and are never served for a newer version.
+     *
+     * @param keyPredicate selects the keys to evict.
+     */
+    default void invalidate(Predicate<Object> keyPredicate) {
+    }
+
+    /**
+     * Load QueryResult from cache, or compute and insert it if not found.  Implementations may coalesce
+     * concurrent requests for the same key so that only one of them computes the result while the others
+     * wait for it.  Exceptions thrown by the loader should be passed through.
+     *
+     * @param key    a key to look up in the cache.
+     * @param loader computes the result to cache with the key.
+     * @return query results from cache, or the loaded results.
+     */
+    default QueryResult computeIfAbsent(Object key, Function<Object, QueryResult> loader) {
+        return computeIfAbsent(key, null, loader);
+    }
+
+    /**
+     * Load QueryResult from cache, or compute and insert the results of a query if not found.
+     *
+     * @param key    a key to look up in the cache.
+     * @param query  the query which produces the result, or null if unknown.
+     * @param loader computes the result to cache with the key.
+     * @return query results from cache, or the loaded results.
+     * @see #computeIfAbsent(Object, Function)
+     * @see #put(Object, QueryResult, Query)
+     */
+    default QueryResult computeIfAbsent(Object key, Query query, Function<Object, QueryResult> loader) {
+        QueryResult result = get(key);
+        if (result == null) {
+            result = loader.apply(key);
+            if (result != null) {
+                put(key, result, query);
+            }
+        }
+        return result;
+    }
 }
@@ -6,25 +6,97 @@
 
 package com.yahoo.elide.datastores.aggregation.cache;
 
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.MapMaker;
 
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
- * A basic local-only cache.
+ * A basic local-only cache.  Concurrent requests for the same missing key are coalesced: one of them
+ * loads the result while the others wait for it, up to the {@link #setCoalescedLoadTimeout coalesced load timeout}.
+ * <p>
+ * The cache is bounded either by number of entries or by the estimated size of the cached results
+ * (rows × projected columns × {@link #ESTIMATED_CELL_BYTES}).  Entries expire after the default expiration,
+ * unless the table of the query sets its own {@link Table#getCacheExpirationMinutes()}.
  */
 public class CaffeineCache implements Cache {
     public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
 
+    /**
+     * Estimated size of a single value of a cached result.
+     */
+    public static final int ESTIMATED_CELL_BYTES = 32;
+
+    public static final Duration DEFAULT_COALESCED_LOAD_TIMEOUT = Duration.ofSeconds(30);
+
     private final com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> cache;
 
+    // Estimated size and expiration of the cached results, by result identity.  Weak so that they are discarded
+    // with evicted results.
+    private final ConcurrentMap<QueryResult, Estimate> estimates = new MapMaker().weakKeys().makeMap();
+
+    // Loads in progress.  Kept apart from the cache so a slow query does not hold a lock on the cache itself.
+    private final ConcurrentMap<Object, CompletableFuture<QueryResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private volatile long coalescedLoadTimeoutNanos = DEFAULT_COALESCED_LOAD_TIMEOUT.toNanos();
+
     public CaffeineCache(int maximumSize, long defaultExprirationMinutes) {
-        cache = Caffeine.newBuilder()
-                .maximumSize(maximumSize)
-                .expireAfterWrite(defaultExprirationMinutes, TimeUnit.MINUTES)
-                .recordStats()
-                .build();
+        this(maximumSize, 0, defaultExprirationMinutes);
+    }
+
+    /**
+     * Constructor.
+     * @param maximumSize Limit on number of entries.  Ignored when maximumBytes is positive.
+     * @param maximumBytes Limit on the estimated size of the cached results.  Non-positive values limit the
+     *                     number of entries instead.
+     * @param defaultExprirationMinutes Expiration of entries whose table does not set its own.
+     */
+    public CaffeineCache(int maximumSize, long maximumBytes, long defaultExprirationMinutes) {
+        long defaultExpirationNanos = TimeUnit.MINUTES.toNanos(defaultExprirationMinutes);
+        Expiry<Object, QueryResult> expiry = new Expiry<Object, QueryResult>() {
+            @Override
+            public long expireAfterCreate(Object key, QueryResult result, long currentTime) {
+                long expirationNanos = getEstimate(result).expirationNanos;
+                return expirationNanos < 0 ? defaultExpirationNanos : expirationNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, QueryResult result, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, result, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Object key, QueryResult result, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+
+        Caffeine<Object, QueryResult> builder = maximumBytes > 0
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maximumBytes)
+                        .weigher((Object key, QueryResult result) -> getEstimate(result).getWeight())
+                        .expireAfter(expiry)
+                : Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfter(expiry);
+
+        cache = builder.recordStats().build();
     }
 
     @Override
@@ -34,10 +106,124 @@ public class CaffeineCache implements Cache {
 
     @Override
     public void put(Object key, QueryResult result) {
+        put(key, result, null);
+    }
+
+    @Override
+    public void put(Object key, QueryResult result, Query query) {
+        estimates.put(result, new Estimate(result, query));
         cache.put(key, result);
     }
 
+    @Override
+    public QueryResult computeIfAbsent(Object key, Query query, Function<Object, QueryResult> loader) {
+        QueryResult result = get(key);
+        if (result != null) {
+            return result;
+        }
+
+        CompletableFuture<QueryResult> load = new CompletableFuture<>();
+        CompletableFuture<QueryResult> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalescedRequests.increment();
+            try {
+                return existing.get(coalescedLoadTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException | TimeoutException e) {
+                // Fall through: the load this request waited on failed or is too slow.
+            }
+
+            // Run the query for this request rather than failing it (or waiting longer) because of another one.
+            return load(key, query, loader);
+        }
+
+        try {
+            // Another load may have completed between the lookup and registering this one.
+            result = get(key);
+            if (result == null) {
+                result = load(key, query, loader);
+            }
+            load.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private QueryResult load(Object key, Query query, Function<Object, QueryResult> loader) {
+        QueryResult result = loader.apply(key);
+        if (result != null) {
+            put(key, result, query);
+        }
+        return result;
+    }
+
+    /**
+     * Sets how long a request waits for an identical request in progress before it runs the query itself.
+     * @param timeout The timeout.
+     */
+    public void setCoalescedLoadTimeout(Duration timeout) {
+        coalescedLoadTimeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public void invalidate(Predicate<Object> keyPredicate) {
+        cache.asMap().keySet().removeIf(keyPredicate);
+    }
+
+    /**
+     * @return The number of requests which waited for the result of an identical request in progress.
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    /**
+     * @return The estimated size in bytes of the cached results, or 0 if the cache is bounded by number of
+     * entries.
+     */
+    public long getEstimatedBytes() {
+        return cache.policy().eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
     public com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> getImplementation() {
         return cache;
     }
+
+    private Estimate getEstimate(QueryResult result) {
+        // Results put through the implementation directly have no query to estimate from.
+        return estimates.computeIfAbsent(result, unused -> new Estimate(result, null));
+    }
+
+    /**
+     * The estimated size and expiration of a cached result.
+     */
+    private static final class Estimate {
+        private final long bytes;
+        private final long expirationNanos;
+
+        Estimate(QueryResult result, Query query) {
+            long rows = Math.max(1, Iterables.size(result.getData()));
+            long columns = query == null
+                    ? 1
+                    : Math.max(1, query.getMetricProjections().size() + query.getAllDimensionProjections().size());
+            this.bytes = rows * columns * ESTIMATED_CELL_BYTES;
+
+            long expirationMinutes = query != null && query.getSource() instanceof Table
+                    ? ((Table) query.getSource()).getCacheExpirationMinutes()
+                    : -1;
+            this.expirationNanos = expirationMinutes < 0 ? -1 : TimeUnit.MINUTES.toNanos(expirationMinutes);
+        }
+
+        int getWeight() {
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+    }
 }
@@ -21,8 +21,11 @@ import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Generate a cache key for a given Query.
@@ -39,12 +42,28 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
 
     private final StringBuilder keyBuilder;
 
-    private QueryKeyExtractor() {
+    // Whether filter values are replaced by their number and types.
+    private final boolean shapeOnly;
+
+    private QueryKeyExtractor(boolean shapeOnly) {
         keyBuilder = new StringBuilder(ESTIMATED_KEY_SIZE);
+        this.shapeOnly = shapeOnly;
     }
 
     public static String extractKey(Query query) {
-        QueryKeyExtractor extractor = new QueryKeyExtractor();
+        QueryKeyExtractor extractor = new QueryKeyExtractor(false);
+        extractor.visit(query);
+        return extractor.keyBuilder.toString();
+    }
+
+    /**
+     * Generate a key for the shape of a given Query.  Queries which only differ in the values of their
+     * filter predicates (but not in the number or the types of those values) share the same shape key.
+     * @param query The query.
+     * @return The shape key.
+     */
+    public static String extractShapeKey(Query query) {
+        QueryKeyExtractor extractor = new QueryKeyExtractor(true);
         extractor.visit(query);
         return extractor.keyBuilder.toString();
     }
@@ -71,6 +90,11 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visitExpression(query.getHavingFilter());
         visit(query.getSorting());
         visit(query.getPagination());
+        // Table arguments are written into the generated SQL.  They are only appended when present so that the
+        // keys of queries without arguments do not change.
+        if (!query.getArguments().isEmpty()) {
+            visit(query.getArguments());
+        }
         // eliding `scope` and `bypassingCache` fields
     }
 
@@ -95,6 +119,16 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         endGroup();
     }
 
+    private void visit(Set<Argument> arguments) {
+        beginGroup();
+        // `arguments` is an unordered set - sort by name
+        arguments.stream().sorted(Comparator.comparing(Argument::getName)).forEachOrdered(argument -> {
+            visit(argument.getName());
+            visit(String.valueOf(argument.getValue()));
+        });
+        endGroup();
+    }
+
     private void visit(Sorting sorting) {
         if (sorting == null) {
             keyBuilder.append(DELIMITER);
@@ -122,6 +156,13 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit(element.getType());
         visit(element.getFieldType());
         visit(element.getFieldName());
+        // Aliases and arguments change the generated SQL.  They are only appended when they differ from the
+        // defaults so that the keys of plain paths do not change.
+        Set<Argument> arguments = element.getArguments() == null ? Collections.emptySet() : element.getArguments();
+        if (!Objects.equals(element.getAlias(), element.getFieldName()) || !arguments.isEmpty()) {
+            visit(String.valueOf(element.getAlias()));
+            visit(arguments);
+        }
         endGroup();
     }
 
@@ -153,8 +194,13 @@ public final class QueryKeyExtractor implements FilterExpressionVisitor<Object>
         visit("P");
         visit(filterPredicate.getPath());
         visit(filterPredicate.getOperator().toString());
-        // `values` is list - don't sort
-        filterPredicate.getValues().forEach(this::visitObject);
+        if (shapeOnly) {
+            visit(filterPredicate.getValues().size());
+            filterPredicate.getValues().forEach(value -> visit(value == null ? "null" : value.getClass().getName()));
+        } else {
+            // `values` is list - don't sort
+            filterPredicate.getValues().forEach(this::visitObject);
+        }
         endGroup();
         // `field` and `fieldPath` are derived from path
         return null;
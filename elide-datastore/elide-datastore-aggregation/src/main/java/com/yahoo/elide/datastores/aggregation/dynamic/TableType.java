@@ -366,6 +366,11 @@ public class TableType implements Type<DynamicModelInstance> {
             public ArgumentDefinition[] arguments() {
                 return getArgumentDefinitions(table.getArguments());
             }
+
+            @Override
+            public long cacheExpirationMinutes() {
+                return table.getCacheExpirationMinutes() == null ? -1 : table.getCacheExpirationMinutes();
+            }
         });
 
         String readPermission = table.getReadAccess();
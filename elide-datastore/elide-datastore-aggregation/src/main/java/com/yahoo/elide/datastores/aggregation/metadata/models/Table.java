@@ -103,6 +103,12 @@ public abstract class Table implements Versioned {
     @ToString.Exclude
     private final Set<Argument> arguments;
 
+    /**
+     * Expiration of the cached query results of this table in minutes, negative to use the cache default.
+     */
+    @Exclude
+    private final long cacheExpirationMinutes;
+
     public Table(Type<?> cls, EntityDictionary dictionary) {
         if (!dictionary.getBoundClasses().contains(cls)) {
             throw new IllegalArgumentException(
@@ -144,6 +150,7 @@ public abstract class Table implements Versioned {
             this.tags = new HashSet<>(Arrays.asList(meta.tags()));
             this.hints = new LinkedHashSet<>(Arrays.asList(meta.hints()));
             this.cardinality = meta.size();
+            this.cacheExpirationMinutes = meta.cacheExpirationMinutes();
             if (meta.arguments().length == 0) {
                 this.arguments = new HashSet<>();
             } else {
@@ -159,6 +166,7 @@ public abstract class Table implements Versioned {
             this.tags = new HashSet<>();
             this.hints = new LinkedHashSet<>();
             this.cardinality = CardinalitySize.UNKNOWN;
+            this.cacheExpirationMinutes = -1;
             this.arguments = new HashSet<>();
         }
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.aggregation.query;
+
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Query} translated by a {@link QueryEngine} into the native query string(s) it will run.
+ * <p>
+ * A query is compiled once per request.  The same compiled query is then used for logging and execution so the
+ * engine never has to plan the same query twice.
+ */
+public class CompiledQuery {
+
+    /**
+     * The client query.
+     */
+    @Getter
+    @NonNull
+    private final Query query;
+
+    private final List<String> nativeQueries;
+
+    public CompiledQuery(@NonNull Query query, @NonNull List<String> nativeQueries) {
+        this.query = query;
+        this.nativeQueries = Collections.unmodifiableList(nativeQueries);
+    }
+
+    /**
+     * Returns the actual query string(s) that will be executed.
+     *
+     * @return List of native query string(s).
+     */
+    public List<String> explain() {
+        return nativeQueries;
+    }
+}
@@ -7,18 +7,26 @@
 package com.yahoo.elide.datastores.aggregation.query;
 
 import com.yahoo.elide.core.request.Pagination;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 /**
  * An immutable Pagination. Doesn't support getPageTotals/setPageTotals; page totals must be returned via QueryResult.
+ * Doesn't support setNextCursor either; the next cursor is set on the pagination of the request.
  */
 @Value
+@AllArgsConstructor
 public class ImmutablePagination implements Pagination {
 
     private int offset;
     private int limit;
     private boolean defaultInstance;
     private boolean returnPageTotals;
+    private String after;
+
+    public ImmutablePagination(int offset, int limit, boolean defaultInstance, boolean returnPageTotals) {
+        this(offset, limit, defaultInstance, returnPageTotals, null);
+    }
 
     public static ImmutablePagination from(Pagination src) {
         if (src instanceof ImmutablePagination) {
@@ -26,7 +34,7 @@ public class ImmutablePagination implements Pagination {
         }
         if (src != null) {
             return new ImmutablePagination(
-                    src.getOffset(), src.getLimit(), src.isDefaultInstance(), src.returnPageTotals());
+                    src.getOffset(), src.getLimit(), src.isDefaultInstance(), src.returnPageTotals(), src.getAfter());
         }
         return null;
     }
@@ -45,4 +53,14 @@ public class ImmutablePagination implements Pagination {
     public void setPageTotals(Long pageTotals) {
         throw new UnsupportedOperationException("ImmutablePagination does not support setPageTotals");
     }
+
+    @Override
+    public String getNextCursor() {
+        return null;
+    }
+
+    @Override
+    public void setNextCursor(String nextCursor) {
+        throw new UnsupportedOperationException("ImmutablePagination does not support setNextCursor");
+    }
 }
@@ -31,36 +31,60 @@ import com.yahoo.elide.datastores.aggregation.timegrains.Second;
 import com.yahoo.elide.datastores.aggregation.timegrains.Week;
 import com.yahoo.elide.datastores.aggregation.timegrains.Year;
 import com.google.common.base.Preconditions;
-import org.apache.commons.lang3.mutable.MutableInt;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 /**
  * {@link EntityHydrator} hydrates the entity loaded by
  * {@link QueryEngine#executeQuery(Query, QueryEngine.Transaction)}.
+ * <p>
+ * The mapping from result set columns to entity fields is resolved once per query.  Entities are then created
+ * lazily, one row at a time, as the {@link Iterable} returned by {@link #hydrate()} is traversed.  The result set
+ * can only be traversed once and must remain open until then.
  */
 public class EntityHydrator {
 
     @Getter(AccessLevel.PROTECTED)
     private final EntityDictionary entityDictionary;
 
-    @Getter(AccessLevel.PROTECTED)
-    private final List<Map<String, Object>> results = new ArrayList<>();
-
     @Getter(AccessLevel.PRIVATE)
     private final Query query;
 
+    private final ResultSet resultSet;
+    private final Type<?> entityClass;
+    private final String idFieldName;
+    private final List<ColumnBinding> bindings;
+    private boolean consumed = false;
+
+    /**
+     * Binding between a result set column and the entity field it hydrates.
+     */
+    @AllArgsConstructor
+    private static class ColumnBinding {
+        private final String fieldName;
+        private final String columnName;
+        private final Type<?> fieldType;
+        private final Attribute attribute;
+    }
+
     public EntityHydrator(ResultSet rs, Query query, EntityDictionary entityDictionary) {
         this.query = query;
         this.entityDictionary = entityDictionary;
+        this.resultSet = rs;
+
+        Table table = getBaseTable(query);
+        this.entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+        this.idFieldName = entityDictionary.getIdFieldName(entityClass);
 
         //Get all the projections from the client query.
         Map<String, String> projections = this.query.getMetricProjections().stream()
@@ -75,43 +99,71 @@ public class EntityHydrator {
 
         try {
             Preconditions.checkArgument(projections.size() == rs.getMetaData().getColumnCount());
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-
-                for (Map.Entry<String, String> entry : projections.entrySet()) {
-                    Object value = rs.getObject(entry.getValue());
-                    row.put(entry.getKey(), value);
-                }
-
-                this.results.add(row);
-            }
         } catch (SQLException e) {
             throw new IllegalStateException(e);
         }
+
+        this.bindings = new ArrayList<>(projections.size());
+        projections.forEach((fieldName, columnName) -> {
+            ColumnProjection dim = query.getColumnProjection(fieldName);
+
+            if (dim != null && dim.getValueType().equals(ValueType.RELATIONSHIP)) {
+                // We don't hydrate relationships here.
+                return;
+            }
+
+            Type<?> fieldType = getType(entityClass, dim);
+            bindings.add(new ColumnBinding(fieldName, columnName, fieldType, projectionToAttribute(dim, fieldType)));
+        });
     }
 
+    /**
+     * Returns the hydrated entities.  Rows are read from the result set as the entities are iterated.
+     * @return A single use iterable of hydrated entity objects.
+     */
     public Iterable<Object> hydrate() {
-        //Coerce the results into entity objects.
-        MutableInt counter = new MutableInt(0);
-
-        List<Object> queryResults = getResults().stream()
-                .map((result) -> coerceObjectToEntity(result, counter))
-                .collect(Collectors.toList());
+        return () -> {
+            if (consumed) {
+                throw new IllegalStateException("Query results can only be iterated once.");
+            }
+            consumed = true;
+
+            return new Iterator<Object>() {
+                //Monotonically increasing number to generate IDs.
+                private int counter = 0;
+                private Boolean hasNext = null;
+
+                @Override
+                public boolean hasNext() {
+                    if (hasNext == null) {
+                        try {
+                            hasNext = resultSet.next();
+                        } catch (SQLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    return hasNext;
+                }
 
-        return queryResults;
+                @Override
+                public Object next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNext = null;
+                    return hydrateRow(counter++);
+                }
+            };
+        };
     }
 
     /**
-     * Coerces results from a {@link Query} into an Object.
+     * Coerces the current row of the result set into an entity object.
      *
-     * @param result a fieldName-value map
-     * @param counter Monotonically increasing number to generate IDs.
+     * @param id Monotonically increasing number used as the entity ID.
      * @return A hydrated entity object.
      */
-    protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
-
+    protected Object hydrateRow(int id) {
         //Construct the object.
         Object entityInstance;
         try {
@@ -120,30 +172,24 @@ public class EntityHydrator {
             throw new IllegalStateException(e);
         }
 
-        result.forEach((fieldName, value) -> {
-            ColumnProjection dim = query.getColumnProjection(fieldName);
-            Type<?> fieldType = getType(entityClass, dim);
-            Attribute attribute = projectionToAttribute(dim, fieldType);
+        try {
+            for (ColumnBinding binding : bindings) {
+                Object value = resultSet.getObject(binding.columnName);
 
-            if (dim != null && dim.getValueType().equals(ValueType.RELATIONSHIP)) {
-                // We don't hydrate relationships here.
-            } else {
                 if (entityInstance instanceof ParameterizedModel) {
                     ((ParameterizedModel) entityInstance).addAttributeValue(
-                            attribute,
-                            CoerceUtil.coerce(value, fieldType));
+                            binding.attribute,
+                            CoerceUtil.coerce(value, binding.fieldType));
                 } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
+                    getEntityDictionary().setValue(entityInstance, binding.fieldName, value);
                 }
             }
-        });
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
 
         //Set the ID (it must be coerced from an integer)
-        getEntityDictionary().setValue(
-                entityInstance,
-                getEntityDictionary().getIdFieldName(entityClass),
-                counter.getAndIncrement()
-        );
+        getEntityDictionary().setValue(entityInstance, idFieldName, id);
 
         return entityInstance;
     }
@@ -15,12 +15,14 @@ import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.core.utils.TimedFunction;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Dimension;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Metric;
 import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.metadata.models.TimeDimension;
 import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
+import com.yahoo.elide.datastores.aggregation.query.CompiledQuery;
 import com.yahoo.elide.datastores.aggregation.query.MetricProjection;
 import com.yahoo.elide.datastores.aggregation.query.Optimizer;
 import com.yahoo.elide.datastores.aggregation.query.Query;
@@ -37,28 +39,46 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.NativeQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.QueryPlanTranslator;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.QueryTranslator;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLCompiledQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLColumnProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLDimensionProjection;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLTimeDimensionProjection;
 import com.yahoo.elide.datastores.aggregation.timegrains.Time;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.StringUtils;
 import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -68,6 +88,7 @@ import javax.sql.DataSource;
  */
 @Slf4j
 public class SQLQueryEngine extends QueryEngine {
+    public static final int DEFAULT_PLAN_CACHE_MAXIMUM_ENTRIES = 1024;
 
     @Getter
     private final SQLReferenceTable referenceTable;
@@ -75,6 +96,44 @@ public class SQLQueryEngine extends QueryEngine {
     private final Map<String, ConnectionDetails> connectionDetailsMap;
     private final Set<Optimizer> optimizers;
 
+    // Compiled SQL keyed by query shape (and dialect).  Null when plan caching is disabled.
+    private final Cache<String, CompiledPlan> planCache;
+
+    /**
+     * When set, the page total query runs on this executor, on its own connection, concurrently with the
+     * data query.  When null, both queries run one after the other on the same connection.
+     */
+    @Setter
+    private ExecutorService pageTotalExecutor;
+
+    /**
+     * Creates a bounded executor for page total queries.  Its threads are daemon threads which exit when idle.
+     * Once every thread is busy and the queue is full, page totals run on the calling thread.
+     * Every running page total holds a connection in addition to the one of its data query, so the connection
+     * pool must have {@code threads} connections to spare beyond the concurrent requests.
+     * The owner of the executor must shut it down.
+     * @param threads The maximum number of page total queries running concurrently.
+     * @return The executor.
+     */
+    public static ExecutorService newPageTotalExecutor(int threads) {
+        Preconditions.checkArgument(threads > 0, "Page total threads must be positive");
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "elide-page-total-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Table versions served from memory and refreshed in the background.  Null when versions are queried
+    // on every request.
+    private volatile LoadingCache<TableKey, Optional<String>> tableVersions;
+
     public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails) {
         this(metaDataStore, defaultConnectionDetails, Collections.emptyMap(),
                 new HashSet<>());
@@ -88,6 +147,22 @@ public class SQLQueryEngine extends QueryEngine {
      */
     public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
                     Map<String, ConnectionDetails> connectionDetailsMap, Set<Optimizer> optimizers) {
+        this(metaDataStore, defaultConnectionDetails, connectionDetailsMap, optimizers,
+                DEFAULT_PLAN_CACHE_MAXIMUM_ENTRIES);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param defaultConnectionDetails : default DataSource Object and SQLDialect Object.
+     * @param connectionDetailsMap : Connection Name to DataSource Object and SQL Dialect Object mapping.
+     * @param optimizers : Query optimizers.
+     * @param planCacheMaximumEntries : Limit on number of compiled query plans to cache. Non-positive values
+     *                                disable the plan cache.
+     */
+    public SQLQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
+                    Map<String, ConnectionDetails> connectionDetailsMap, Set<Optimizer> optimizers,
+                    int planCacheMaximumEntries) {
 
         Preconditions.checkNotNull(defaultConnectionDetails);
         Preconditions.checkNotNull(connectionDetailsMap);
@@ -99,6 +174,9 @@ public class SQLQueryEngine extends QueryEngine {
         populateMetaData(metaDataStore);
         this.referenceTable = new SQLReferenceTable(metaDataStore);
         this.optimizers = optimizers;
+        this.planCache = planCacheMaximumEntries > 0
+                ? Caffeine.newBuilder().maximumSize(planCacheMaximumEntries).recordStats().build()
+                : null;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -164,7 +242,10 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
+
+        // Statements and extra connections may be registered while another thread cancels the transaction.
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private final List<Connection> extraConnections = new CopyOnWriteArrayList<>();
 
         private void initializeConnection(DataSource dataSource) {
             try {
@@ -188,10 +269,32 @@ public class SQLQueryEngine extends QueryEngine {
             return stmt;
         }
 
+        /**
+         * Prepares a statement on a new connection of the pool so that it can run concurrently with
+         * the statements of the transaction's own connection.
+         * @param namedParamQuery The SQL.
+         * @param dataSource The pool.
+         * @return The prepared statement.
+         */
+        public NamedParamPreparedStatement initializeStatementOnNewConnection(String namedParamQuery,
+                                                                              DataSource dataSource) {
+            NamedParamPreparedStatement stmt;
+            try {
+                Connection connection = dataSource.getConnection();
+                extraConnections.add(connection);
+                stmt = new NamedParamPreparedStatement(connection, namedParamQuery);
+                stmts.add(stmt);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return stmt;
+        }
+
         @Override
         public void close() {
             stmts.forEach(stmt -> cancelAndCloseSoftly(stmt));
             closeSoftly(conn);
+            extraConnections.forEach(SQLQueryEngine::closeSoftly);
         }
 
         @Override
@@ -207,64 +310,154 @@ public class SQLQueryEngine extends QueryEngine {
 
     @Override
     public QueryResult executeQuery(Query query, Transaction transaction) {
-        SqlTransaction sqlTransaction = (SqlTransaction) transaction;
-        ConnectionDetails details = query.getConnectionDetails();
-        DataSource dataSource = details.getDataSource();
-        SQLDialect dialect = details.getDialect();
-
-        Query expandedQuery = expandMetricQueryPlans(query);
+        return executeQuery(compile(query), transaction);
+    }
 
-        // Translate the query into SQL.
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-        String queryString = sql.toString();
+    @Override
+    public QueryResult executeQuery(CompiledQuery compiledQuery, Transaction transaction) {
+        SqlTransaction sqlTransaction = (SqlTransaction) transaction;
+        SQLCompiledQuery sql = (SQLCompiledQuery) compiledQuery;
+        Query query = sql.getQuery();
+        DataSource dataSource = query.getConnectionDetails().getDataSource();
 
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
-        Pagination pagination = query.getPagination();
-        if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, sqlTransaction));
+        CompletableFuture<Long> pageTotal = null;
+        if (sql.isReturnPageTotals()) {
+            pageTotal = getPageTotal(sql, dataSource, sqlTransaction);
         }
 
+        String queryString = sql.getSql();
         log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
 
-        // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        ResultSet resultSet;
+        try {
+            stmt = sqlTransaction.initializeStatement(queryString, dataSource);
 
-        // Run the primary query and log the time spent.
-        ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
+            // Supply the query parameters to the query
+            supplyQueryParameters(sql.getParameters(), stmt);
+
+            // Run the primary query and log the time spent.
+            resultSet = runQuery(stmt, queryString, Function.identity());
+        } catch (RuntimeException e) {
+            if (pageTotal != null && !pageTotal.isDone()) {
+                sqlTransaction.cancel();
+            }
+            throw e;
+        }
+
+        if (pageTotal != null) {
+            resultBuilder.pageTotals(join(pageTotal));
+        }
 
         resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary).hydrate());
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query query, NativeQuery sql, SqlTransaction sqlTransaction) {
-        ConnectionDetails details = query.getConnectionDetails();
-        DataSource dataSource = details.getDataSource();
-        SQLDialect dialect = details.getDialect();
-        NativeQuery paginationSQL = toPageTotalSQL(query, sql, dialect);
+    /**
+     * Runs the page total query.  When a page total executor is configured, the query runs asynchronously
+     * on its own connection.
+     */
+    private CompletableFuture<Long> getPageTotal(SQLCompiledQuery sql, DataSource dataSource,
+                                                 SqlTransaction sqlTransaction) {
+        String paginationSQL = sql.getPageTotalSql();
 
         if (paginationSQL == null) {
             // The query returns the aggregated metric without any dimension.
             // Only 1 record will be returned.
-            return 1;
+            return CompletableFuture.completedFuture(1L);
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        // The statement is registered with the transaction before it runs so that cancel() reaches it.
+        NamedParamPreparedStatement stmt = pageTotalExecutor == null
+                ? sqlTransaction.initializeStatement(paginationSQL, dataSource)
+                : sqlTransaction.initializeStatementOnNewConnection(paginationSQL, dataSource);
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        supplyQueryParameters(sql.getPageTotalParameters(), stmt);
 
+        if (pageTotalExecutor == null) {
+            return CompletableFuture.completedFuture(runPageTotal(stmt, paginationSQL));
+        }
+        return CompletableFuture.supplyAsync(() -> runPageTotal(stmt, paginationSQL), pageTotalExecutor);
+    }
+
+    private long runPageTotal(NamedParamPreparedStatement stmt, String paginationSQL) {
         // Run the Pagination query and log the time spent.
-        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.toString(), SINGLE_RESULT_MAPPER), Long.class);
+        Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL, SINGLE_RESULT_MAPPER), Long.class);
 
         return (result != null) ? result : 0;
     }
 
+    private static long join(CompletableFuture<Long> pageTotal) {
+        try {
+            return pageTotal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Serves table versions from memory.  A version older than the refresh interval is still served while it is
+     * refreshed in the background.  Listeners registered with {@link #addTableVersionListener} are notified when
+     * a refresh returns a different version.
+     * @param refreshInterval How long a version is served before it is refreshed.  Null or non-positive values
+     *                        query the version on every request.
+     */
+    public void setTableVersionRefreshInterval(Duration refreshInterval) {
+        if (refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            tableVersions = null;
+            return;
+        }
+
+        tableVersions = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshInterval)
+                .build(new CacheLoader<TableKey, Optional<String>>() {
+                    @Override
+                    public Optional<String> load(TableKey key) {
+                        return Optional.ofNullable(queryTableVersion(getTable(key)));
+                    }
+
+                    @Override
+                    public Optional<String> reload(TableKey key, Optional<String> staleVersion) {
+                        Optional<String> version = load(key);
+                        if (!version.equals(staleVersion)) {
+                            Table table = getTable(key);
+                            tableVersionListeners.forEach(listener ->
+                                    listener.accept(table, staleVersion.orElse(null)));
+                        }
+                        return version;
+                    }
+                });
+    }
+
     @Override
     public String getTableVersion(Table table, Transaction transaction) {
+        LoadingCache<TableKey, Optional<String>> versions = tableVersions;
+        if (versions != null) {
+            return versions.get(new TableKey(table.getName(), table.getVersion())).orElse(null);
+        }
+        return queryTableVersion(table, transaction);
+    }
 
+    private Table getTable(TableKey key) {
+        return metaDataStore.getTable(key.getName(), key.getVersion());
+    }
+
+    /**
+     * Runs the version query of a table on its own connection.
+     */
+    private String queryTableVersion(Table table) {
+        try (SqlTransaction transaction = new SqlTransaction()) {
+            return queryTableVersion(table, transaction);
+        }
+    }
+
+    private String queryTableVersion(Table table, Transaction transaction) {
         String tableVersion = null;
         SQLTable sqlTable = (SQLTable) table;
         Type<?> tableClass = metadataDictionary.getEntityClass(table.getName(), table.getVersion());
@@ -302,24 +495,76 @@ public class SQLQueryEngine extends QueryEngine {
      * @return List of SQL string(s) corresponding to the given query.
      */
     public List<String> explain(Query query, SQLDialect dialect) {
-        List<String> queries = new ArrayList<>();
+        return compile(query, dialect).explain();
+    }
+
+    @Override
+    public List<String> explain(Query query) {
+        return compile(query).explain();
+    }
+
+    @Override
+    public CompiledQuery compile(Query query) {
+        return compile(query, query.getConnectionDetails().getDialect());
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the compiled query plan cache.
+     * @return Plan cache statistics (all zeros when the plan cache is disabled).
+     */
+    public CacheStats getPlanCacheStats() {
+        return planCache == null ? CacheStats.empty() : planCache.stats();
+    }
+
+    /**
+     * Compiles the client query, reusing the SQL of a previously compiled query of the same shape when possible.
+     *
+     * @param query The client query.
+     * @param dialect SQL dialect to use for this storage.
+     * @return The compiled query.
+     */
+    private SQLCompiledQuery compile(Query query, SQLDialect dialect) {
+        if (planCache == null) {
+            return compileQuery(query, dialect).getCompiledQuery();
+        }
+
+        String key = dialect.getDialectType() + ';' + QueryKeyExtractor.extractShapeKey(query);
+        CompiledPlan plan = planCache.getIfPresent(key);
+        if (plan != null) {
+            SQLCompiledQuery compiledQuery = plan.bind(query, dialect);
+            if (compiledQuery != null) {
+                return compiledQuery;
+            }
+        }
+
+        plan = compileQuery(query, dialect);
+        planCache.put(key, plan);
+        return plan.getCompiledQuery();
+    }
+
+    /**
+     * Expands, optimizes and translates the client query into SQL and resolves its parameter values.
+     *
+     * @param query The client query.
+     * @param dialect SQL dialect to use for this storage.
+     * @return The compiled query plan.
+     */
+    private CompiledPlan compileQuery(Query query, SQLDialect dialect) {
         Query expandedQuery = expandMetricQueryPlans(query);
         NativeQuery sql = toSQL(expandedQuery, dialect);
 
-        Pagination pagination = query.getPagination();
-        if (returnPageTotals(pagination)) {
-            NativeQuery paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
+        NativeQuery paginationSql = null;
+        Map<String, Object> paginationParameters = Collections.emptyMap();
+        boolean returnPageTotals = returnPageTotals(query.getPagination());
+        if (returnPageTotals) {
+            paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
             if (paginationSql != null) {
-                queries.add(paginationSql.toString());
+                paginationParameters = getFilterQueryParameters(expandedQuery, dialect);
             }
         }
-        queries.add(sql.toString());
-        return queries;
-    }
 
-    @Override
-    public List<String> explain(Query query) {
-        return explain(query, query.getConnectionDetails().getDialect());
+        return new CompiledPlan(new SQLCompiledQuery(query, sql, paginationSql, returnPageTotals,
+                getFilterQueryParameters(query, dialect), paginationParameters), getFilterPredicates(query));
     }
 
     /**
@@ -388,40 +633,67 @@ public class SQLQueryEngine extends QueryEngine {
     }
 
     /**
-     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     * Resolves the values of the named parameters of the client query.
      *
      * @param query The client query
-     * @param stmt Customized Prepared Statement
      * @param dialect the SQL dialect
+     * @return Parameter name to value mapping.
      */
-    private void supplyFilterQueryParameters(Query query, NamedParamPreparedStatement stmt, SQLDialect dialect) {
+    private static Map<String, Object> getFilterQueryParameters(Query query, SQLDialect dialect) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (FilterPredicate filterPredicate : getFilterPredicates(query)) {
+            if (filterPredicate.getOperator().isParameterized()) {
+                filterPredicate.getParameters().forEach(param ->
+                        parameters.put(param.getName(), getParameterValue(filterPredicate, param, dialect)));
+            }
+        }
+        return parameters;
+    }
 
-        Collection<FilterPredicate> predicates = new ArrayList<>();
+    /**
+     * Extracts the filter predicates of the where and having clauses, in a stable order.
+     *
+     * @param query The client query
+     * @return The filter predicates.
+     */
+    private static List<FilterPredicate> getFilterPredicates(Query query) {
+        List<FilterPredicate> predicates = new ArrayList<>();
         if (query.getWhereFilter() != null) {
-            predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor()));
+            predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor(new ArrayList<>())));
         }
 
         if (query.getHavingFilter() != null) {
-            predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor()));
+            predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor(new ArrayList<>())));
         }
+        return predicates;
+    }
 
-        for (FilterPredicate filterPredicate : predicates) {
-            boolean isTimeFilter = filterPredicate.getFieldType().equals(ClassType.of(Time.class));
-            if (filterPredicate.getOperator().isParameterized()) {
-                boolean shouldEscape = filterPredicate.isMatchingOperator();
-                filterPredicate.getParameters().forEach(param -> {
-                    try {
-                        Object value = param.getValue();
-                        if (isTimeFilter) {
-                            value = dialect.translateTimeToJDBC((Time) value);
-                        }
-                        stmt.setObject(param.getName(), shouldEscape ? param.escapeMatching() : value);
-                    } catch (SQLException e) {
-                        throw new IllegalStateException(e);
-                    }
-                });
-            }
+    private static Object getParameterValue(FilterPredicate predicate, FilterPredicate.FilterParameter param,
+                                            SQLDialect dialect) {
+        if (predicate.isMatchingOperator()) {
+            return param.escapeMatching();
+        }
+        Object value = param.getValue();
+        if (predicate.getFieldType().equals(ClassType.of(Time.class))) {
+            value = dialect.translateTimeToJDBC((Time) value);
         }
+        return value;
+    }
+
+    /**
+     * Given a Prepared Statement, replaces any parameters with their values.
+     *
+     * @param parameters Parameter name to value mapping
+     * @param stmt Customized Prepared Statement
+     */
+    private static void supplyQueryParameters(Map<String, Object> parameters, NamedParamPreparedStatement stmt) {
+        parameters.forEach((name, value) -> {
+            try {
+                stmt.setObject(name, value);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
     }
 
     /**
@@ -467,6 +739,79 @@ public class SQLQueryEngine extends QueryEngine {
                 .build();
     }
 
+    /**
+     * A compiled query along with the filter predicates its parameter names were derived from.  The SQL is
+     * reused for other queries of the same shape by rebinding the parameters positionally.
+     */
+    private static class CompiledPlan {
+        @Getter
+        private final SQLCompiledQuery compiledQuery;
+        private final List<FilterPredicate> predicates;
+
+        CompiledPlan(SQLCompiledQuery compiledQuery, List<FilterPredicate> predicates) {
+            this.compiledQuery = compiledQuery;
+            this.predicates = predicates;
+        }
+
+        /**
+         * Binds the values of a query of the same shape to the compiled SQL.
+         *
+         * @param query The client query.
+         * @param dialect the SQL dialect
+         * @return The compiled query or null if the parameters cannot be rebound.
+         */
+        SQLCompiledQuery bind(Query query, SQLDialect dialect) {
+            List<FilterPredicate> boundPredicates = getFilterPredicates(query);
+            if (boundPredicates.size() != predicates.size()) {
+                return null;
+            }
+
+            Map<String, Object> values = new HashMap<>();
+            for (int idx = 0; idx < predicates.size(); idx++) {
+                FilterPredicate bound = boundPredicates.get(idx);
+                List<FilterPredicate.FilterParameter> names = predicates.get(idx).getParameters();
+                List<FilterPredicate.FilterParameter> params = bound.getParameters();
+                if (names.size() != params.size()) {
+                    return null;
+                }
+                for (int paramIdx = 0; paramIdx < names.size(); paramIdx++) {
+                    values.put(names.get(paramIdx).getName(),
+                            getParameterValue(bound, params.get(paramIdx), dialect));
+                }
+            }
+
+            Map<String, Object> parameters = rebind(compiledQuery.getParameters(), values);
+            Map<String, Object> pageTotalParameters = rebind(compiledQuery.getPageTotalParameters(), values);
+            if (parameters == null || pageTotalParameters == null) {
+                return null;
+            }
+
+            return new SQLCompiledQuery(query, compiledQuery.getSql(), compiledQuery.getPageTotalSql(),
+                    compiledQuery.isReturnPageTotals(), parameters, pageTotalParameters);
+        }
+
+        private static Map<String, Object> rebind(Map<String, Object> parameters, Map<String, Object> values) {
+            Map<String, Object> rebound = new LinkedHashMap<>();
+            for (String name : parameters.keySet()) {
+                if (!values.containsKey(name)) {
+                    // The expanded query rewrote the predicate.
+                    return null;
+                }
+                rebound.put(name, values.get(name));
+            }
+            return rebound;
+        }
+    }
+
+    /**
+     * Identifies a table without hashing its metadata.
+     */
+    @Value
+    private static class TableKey {
+        private String name;
+        private String version;
+    }
+
     private static boolean returnPageTotals(Pagination pagination) {
         return pagination != null && pagination.returnPageTotals();
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.aggregation.queryengines.sql.query;
+
+import com.yahoo.elide.datastores.aggregation.query.CompiledQuery;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Query} compiled into SQL, along with the values of its named parameters.
+ */
+@Getter
+public class SQLCompiledQuery extends CompiledQuery {
+
+    private final String sql;
+
+    /**
+     * The SQL to count the total number of records, or null if page totals were not requested
+     * (or the query can only return a single record).
+     */
+    private final String pageTotalSql;
+
+    /**
+     * Whether page totals were requested.
+     */
+    private final boolean returnPageTotals;
+
+    /**
+     * Named parameter values for {@link #getSql()}.
+     */
+    private final Map<String, Object> parameters;
+
+    /**
+     * Named parameter values for {@link #getPageTotalSql()}.
+     */
+    private final Map<String, Object> pageTotalParameters;
+
+    public SQLCompiledQuery(Query query, NativeQuery sql, NativeQuery pageTotalSql,
+                            boolean returnPageTotals, Map<String, Object> parameters,
+                            Map<String, Object> pageTotalParameters) {
+        this(query, sql.toString(), pageTotalSql == null ? null : pageTotalSql.toString(),
+                returnPageTotals, parameters, pageTotalParameters);
+    }
+
+    public SQLCompiledQuery(Query query, String sql, String pageTotalSql,
+                            boolean returnPageTotals, Map<String, Object> parameters,
+                            Map<String, Object> pageTotalParameters) {
+        super(query, explain(sql, pageTotalSql));
+        this.sql = sql;
+        this.pageTotalSql = pageTotalSql;
+        this.returnPageTotals = returnPageTotals;
+        this.parameters = parameters;
+        this.pageTotalParameters = pageTotalParameters;
+    }
+
+    private static List<String> explain(String sql, String pageTotalSql) {
+        List<String> queries = new ArrayList<>();
+        if (pageTotalSql != null) {
+            queries.add(pageTotalSql);
+        }
+        queries.add(sql);
+        return queries;
+    }
+}
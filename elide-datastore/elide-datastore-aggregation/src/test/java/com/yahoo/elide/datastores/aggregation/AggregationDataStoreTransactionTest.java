@@ -9,23 +9,31 @@ package com.yahoo.elide.datastores.aggregation;
 import static com.yahoo.elide.core.request.Pagination.DEFAULT_PAGE_LIMIT;
 import static com.yahoo.elide.core.request.Pagination.MAX_PAGE_LIMIT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.query.CompiledQuery;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
@@ -36,10 +44,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 @ExtendWith(MockitoExtension.class)
 class AggregationDataStoreTransactionTest extends SQLUnitTest {
@@ -85,18 +97,20 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Arrays.asList(myQuery.toString()));
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        when(queryEngine.executeQuery(compiledQuery, qeTransaction)).thenReturn(queryResult);
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
+        String cacheKey = "foo;" + queryKey;
+        when(cache.computeIfAbsent(eq(cacheKey), any(), any())).thenAnswer(this::load);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
 
-        String cacheKey = "foo;" + queryKey;
         Mockito.verify(cache).get(cacheKey);
-        Mockito.verify(cache).put(cacheKey, queryResult);
+        Mockito.verify(cache).computeIfAbsent(eq(cacheKey), any(), any());
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
@@ -116,16 +130,17 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Arrays.asList(myQuery.toString()));
         when(cache.get(cacheKey)).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
 
-        Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).executeQuery(any(CompiledQuery.class), any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -145,9 +160,10 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Arrays.asList(myQuery.toString()));
         when(cache.get(anyString())).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         Pagination pagination = new PaginationImpl(
@@ -159,7 +175,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         assertEquals(314L, entityProjection.getPagination().getPageTotals());
 
         String cacheKey = "foo;" + queryKey;
-        Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).executeQuery(any(CompiledQuery.class), any());
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -178,21 +194,23 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Arrays.asList(myQuery.toString()));
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
 
-        when(queryEngine.executeQuery(query, qeTransaction))
+        when(queryEngine.executeQuery(compiledQuery, qeTransaction))
                 .thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
+        String cacheKey = ";" + queryKey;
+        when(cache.computeIfAbsent(eq(cacheKey), any(), any())).thenAnswer(this::load);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
 
         transaction.loadObjects(entityProjection, scope);
 
-        String cacheKey = ";" + queryKey;
         Mockito.verify(cache).get(cacheKey);
-        Mockito.verify(cache).put(cacheKey, queryResult);
+        Mockito.verify(cache).computeIfAbsent(eq(cacheKey), any(), any());
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
@@ -210,10 +228,11 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         NativeQuery myQuery = NativeQuery.builder()
                 .fromClause(playerStatsTable.getName())
                 .projectionClause(" ").build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Arrays.asList(myQuery.toString()));
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
+        when(queryEngine.executeQuery(compiledQuery, qeTransaction)).thenReturn(queryResult);
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -237,8 +256,10 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         String nullPointerExceptionMessage = "Cannot dereference an object with value Null";
         try {
             query = Query.builder().source(playerStatsTable).bypassingCache(true).build();
+            CompiledQuery compiledQuery = new CompiledQuery(query, Collections.emptyList());
+            when(queryEngine.compile(query)).thenReturn(compiledQuery);
             doThrow(new NullPointerException(nullPointerExceptionMessage))
-                    .when(queryEngine).executeQuery(query, qeTransaction);
+                    .when(queryEngine).executeQuery(compiledQuery, qeTransaction);
             AggregationDataStoreTransaction transaction =
                     new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
             EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -258,6 +279,44 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()), any());
     }
 
+    @Test
+    public void loadObjectsSeeksWhenKeysetCoversEveryDimension() {
+        query = Query.builder()
+                .source(playerStatsTable)
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .bypassingCache(true)
+                .build();
+        CompiledQuery compiledQuery = new CompiledQuery(query, Collections.emptyList());
+        when(queryEngine.compile(query)).thenReturn(compiledQuery);
+        when(queryEngine.executeQuery(compiledQuery, qeTransaction))
+                .thenReturn(QueryResult.builder().data(DATA).build());
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+
+        EntityProjection entityProjection = getKeysetProjection("overallRating");
+
+        assertEquals(DATA, transaction.loadObjects(entityProjection, scope));
+        assertNull(entityProjection.getPagination().getNextCursor());
+    }
+
+    @Test
+    public void loadObjectsRejectsKeysetMissingADimension() {
+        query = Query.builder()
+                .source(playerStatsTable)
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .bypassingCache(true)
+                .build();
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+
+        // Rows sharing an overall rating differ by recorded date, so the key would not be unique.
+        EntityProjection entityProjection = getKeysetProjection("overallRating");
+
+        assertThrows(BadRequestException.class, () -> transaction.loadObjects(entityProjection, scope));
+        Mockito.verify(queryEngine, never()).compile(any());
+    }
+
     @Test
     public void aggregationQueryLoggerCancelQueryTest() {
         Mockito.reset(queryLogger);
@@ -266,4 +325,20 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         transaction.cancel(scope);
         Mockito.verify(queryLogger, times(1)).cancelQuery(Mockito.eq(scope.getRequestId()));
     }
+
+    private EntityProjection getKeysetProjection(String sortField) {
+        Map<String, Sorting.SortOrder> sortMap = new TreeMap<>();
+        sortMap.put(sortField, Sorting.SortOrder.asc);
+        return EntityProjection.builder()
+                .type(PlayerStats.class)
+                .sorting(new SortingImpl(sortMap, PlayerStats.class, dictionary))
+                .pagination(new PaginationImpl(ClassType.of(PlayerStats.class), null, null,
+                        DEFAULT_PAGE_LIMIT, MAX_PAGE_LIMIT, null, false, ""))
+                .build();
+    }
+
+    private QueryResult load(InvocationOnMock invocation) {
+        Function<Object, QueryResult> loader = invocation.getArgument(2);
+        return loader.apply(invocation.getArgument(0));
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static com.yahoo.elide.datastores.aggregation.cache.CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
+import static com.yahoo.elide.datastores.aggregation.cache.CaffeineCache.ESTIMATED_CELL_BYTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CaffeineCacheTest {
+
+    private final QueryResult result = QueryResult.builder().data(Collections.emptyList()).build();
+
+    @Test
+    public void testComputeIfAbsent() {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertSame(result, cache.computeIfAbsent("key", key -> {
+            loads.incrementAndGet();
+            return result;
+        }));
+        assertSame(result, cache.computeIfAbsent("key", key -> {
+            loads.incrementAndGet();
+            return result;
+        }));
+        assertSame(result, cache.get("key"));
+        assertEquals(1, loads.get());
+        assertEquals(0, cache.getCoalescedRequests());
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<QueryResult> first = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }));
+            loading.await(10, TimeUnit.SECONDS);
+
+            Future<QueryResult> second = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                loads.incrementAndGet();
+                return result;
+            }));
+            while (cache.getCoalescedRequests() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertSame(result, first.get(10, TimeUnit.SECONDS));
+            assertSame(result, second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getCoalescedRequests());
+    }
+
+    @Test
+    public void testSlowLoadIsNotWaitedOnPastTimeout() throws Exception {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        cache.setCoalescedLoadTimeout(Duration.ofMillis(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<QueryResult> first = executor.submit(() -> cache.computeIfAbsent("key", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return result;
+            }));
+            loading.await(10, TimeUnit.SECONDS);
+
+            // The first load is still running: this request gives up waiting and runs the query itself.
+            assertSame(result, cache.computeIfAbsent("key", key -> {
+                loads.incrementAndGet();
+                return result;
+            }));
+            assertEquals(1, cache.getCoalescedRequests());
+
+            release.countDown();
+            assertSame(result, first.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+
+        assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("key", key -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(null, cache.get("key"));
+        assertSame(result, cache.computeIfAbsent("key", key -> result));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CaffeineCache cache = new CaffeineCache(10, 10);
+        cache.put("1;table;a", result);
+        cache.put("2;table;a", result);
+
+        cache.invalidate(key -> key.toString().startsWith("1;table;"));
+
+        assertEquals(null, cache.get("1;table;a"));
+        assertSame(result, cache.get("2;table;a"));
+    }
+
+    @Test
+    public void testSizeAwareEviction() {
+        CaffeineCache cache = new CaffeineCache(DEFAULT_MAXIMUM_ENTRIES, 10 * ESTIMATED_CELL_BYTES, 10);
+        QueryResult small = QueryResult.builder().data(Collections.nCopies(1, "row")).build();
+        QueryResult large = QueryResult.builder().data(Collections.nCopies(20, "row")).build();
+
+        cache.put("small", small);
+        cache.put("large", large);
+        cache.getImplementation().cleanUp();
+
+        assertSame(small, cache.get("small"));
+        assertEquals(null, cache.get("large"));
+        assertEquals(ESTIMATED_CELL_BYTES, cache.getEstimatedBytes());
+    }
+}
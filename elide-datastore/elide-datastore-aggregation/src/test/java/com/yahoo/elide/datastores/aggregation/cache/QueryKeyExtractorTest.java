@@ -9,10 +9,13 @@ package com.yahoo.elide.datastores.aggregation.cache;
 import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
 import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
@@ -21,6 +24,7 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
@@ -126,4 +130,94 @@ public class QueryKeyExtractorTest {
                         .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("updatedDate"))
                         .build()));
     }
+
+    @Test
+    public void testShapeKeyIgnoresFilterValues() throws Exception {
+        assertEquals(
+                QueryKeyExtractor.extractShapeKey(filteredQuery("countryNickName=='Uncle Sam'")),
+                QueryKeyExtractor.extractShapeKey(filteredQuery("countryNickName=='Uncle Bob'")));
+        assertNotEquals(
+                QueryKeyExtractor.extractKey(filteredQuery("countryNickName=='Uncle Sam'")),
+                QueryKeyExtractor.extractKey(filteredQuery("countryNickName=='Uncle Bob'")));
+    }
+
+    @Test
+    public void testShapeKeyValueCount() throws Exception {
+        assertEquals("com_yahoo_elide_datastores_aggregation_example_PlayerStats;{highScore;{}}{}{}"
+                        + "{P;{{com.yahoo.elide.datastores.aggregation.example.PlayerStats;java.lang.String;countryNickName;}}"
+                        + "IN;2;java.lang.String;java.lang.String;};;;",
+                QueryKeyExtractor.extractShapeKey(filteredQuery("countryNickName=in=('Uncle Sam','Uncle Bob')")));
+        assertNotEquals(
+                QueryKeyExtractor.extractShapeKey(filteredQuery("countryNickName=='Uncle Sam'")),
+                QueryKeyExtractor.extractShapeKey(filteredQuery("countryNickName=in=('Uncle Sam','Uncle Bob')")));
+    }
+
+    @Test
+    public void testShapeKeyIncludesTableArguments() {
+        assertNotEquals(
+                QueryKeyExtractor.extractShapeKey(queryWithTableArgument("US")),
+                QueryKeyExtractor.extractShapeKey(queryWithTableArgument("CA")));
+        assertNotEquals(
+                QueryKeyExtractor.extractKey(queryWithTableArgument("US")),
+                QueryKeyExtractor.extractKey(queryWithTableArgument("CA")));
+    }
+
+    @Test
+    public void testShapeKeyIncludesPathArguments() {
+        assertNotEquals(
+                QueryKeyExtractor.extractShapeKey(sortedQuery(pathWithArgument("US"))),
+                QueryKeyExtractor.extractShapeKey(sortedQuery(pathWithArgument("CA"))));
+    }
+
+    private static Query queryWithTableArgument(String country) {
+        Map<String, Argument> arguments = new HashMap<>();
+        arguments.put("country", Argument.builder().name("country").value(country).build());
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .arguments(arguments)
+                .build();
+    }
+
+    private static Path pathWithArgument(String country) {
+        return new Path(Collections.singletonList(new Path.PathElement(
+                getClassType(PlayerStats.class),
+                getClassType(String.class),
+                "countryNickName",
+                "countryNickName",
+                Collections.singleton(Argument.builder().name("country").value(country).build()))));
+    }
+
+    private static Query sortedQuery(Path path) {
+        Sorting sorting = new Sorting() {
+            @Override
+            public Map<Path, SortOrder> getSortingPaths() {
+                return Collections.singletonMap(path, SortOrder.asc);
+            }
+
+            @Override
+            public Type<?> getType() {
+                return getClassType(PlayerStats.class);
+            }
+
+            @Override
+            public boolean isDefaultInstance() {
+                return false;
+            }
+        };
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .sorting(sorting)
+                .build();
+    }
+
+    private static Query filteredQuery(String filter) throws Exception {
+        RSQLFilterDialect filterParser = new RSQLFilterDialect(dictionary);
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .whereFilter(filterParser.parseFilterExpression(filter, getClassType(PlayerStats.class), false))
+                .build();
+    }
 }
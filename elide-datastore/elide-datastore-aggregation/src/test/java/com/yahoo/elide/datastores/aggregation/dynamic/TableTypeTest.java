@@ -80,6 +80,7 @@ public class TableTypeTest {
                 .dbConnectionName("dbConn")
                 .isFact(true)
                 .filterTemplate("a==b")
+                .cacheExpirationMinutes(5L)
                 .tags(tags)
                 .hints(hints)
                 .build();
@@ -102,6 +103,7 @@ public class TableTypeTest {
         assertEquals(tags, new HashSet<>(Arrays.asList(tableMeta.tags())));
         assertEquals(hints, new HashSet<>(Arrays.asList(tableMeta.hints())));
         assertEquals("a==b", tableMeta.filterTemplate());
+        assertEquals(5, tableMeta.cacheExpirationMinutes());
 
         ReadPermission readPermission = (ReadPermission) testType.getAnnotation(ReadPermission.class);
         assertEquals("Admin", readPermission.expression());
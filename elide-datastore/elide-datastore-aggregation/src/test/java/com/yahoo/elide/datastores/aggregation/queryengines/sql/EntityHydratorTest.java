@@ -8,7 +8,12 @@ package com.yahoo.elide.datastores.aggregation.queryengines.sql;
 
 import static com.yahoo.elide.datastores.aggregation.query.ColumnProjection.createSafeAlias;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
@@ -24,6 +29,7 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 public class EntityHydratorTest extends SQLUnitTest {
@@ -62,4 +68,39 @@ public class EntityHydratorTest extends SQLUnitTest {
         assertEquals(Month.class, stats.fetch("byMonth", null).getClass());
         assertEquals(Day.class, stats.fetch("byDay", null).getClass());
     }
+
+    @Test
+    void testLazyHydration() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject("highScore")).thenReturn(1234, 5678);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .build();
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, query, dictionary);
+        Iterable<Object> results = hydrator.hydrate();
+
+        // Nothing is read until the results are iterated.
+        verify(resultSet, never()).next();
+
+        Iterator<Object> iterator = results.iterator();
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext());
+        PlayerStats first = (PlayerStats) iterator.next();
+        PlayerStats second = (PlayerStats) iterator.next();
+        assertFalse(iterator.hasNext());
+
+        assertEquals(1234L, first.fetch("highScore", null));
+        assertEquals("0", first.getId());
+        assertEquals(5678L, second.fetch("highScore", null));
+        assertEquals("1", second.getId());
+
+        assertThrows(IllegalStateException.class, results::iterator);
+    }
 }
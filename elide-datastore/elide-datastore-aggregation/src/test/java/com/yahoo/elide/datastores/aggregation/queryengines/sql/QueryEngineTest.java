@@ -18,6 +18,7 @@ import com.yahoo.elide.core.request.Attribute;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
 import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStats;
 import com.yahoo.elide.datastores.aggregation.example.PlayerStatsView;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Date;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 
 public class QueryEngineTest extends SQLUnitTest {
     private static SQLTable playerStatsViewTable;
@@ -285,6 +288,59 @@ public class QueryEngineTest extends SQLUnitTest {
         assertEquals(3, result.getPageTotals(), "Page totals does not match");
     }
 
+    /**
+     * Test pagination with the page total query running concurrently on its own connection.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void testConcurrentPageTotals() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        ExecutorService executor = SQLQueryEngine.newPageTotalExecutor(1);
+        engine.setPageTotalExecutor(executor);
+        try (QueryEngine.Transaction concurrentTransaction = engine.beginTransaction()) {
+            QueryResult result = engine.executeQuery(query, concurrentTransaction);
+            List<Object> data = toList(result.getData());
+
+            PlayerStats stats1 = new PlayerStats();
+            stats1.setId("0");
+            stats1.setLowScore(35);
+            stats1.setOverallRating("Good");
+            stats1.setRecordedDate(new Day(Date.valueOf("2019-07-12")));
+
+            assertEquals(ImmutableList.of(stats1), data, "Returned record does not match");
+            assertEquals(3, result.getPageTotals(), "Page totals does not match");
+        } finally {
+            engine.setPageTotalExecutor(null);
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test table versions are served from memory once loaded.
+     */
+    @Test
+    public void testCachedTableVersion() {
+        String version = engine.getTableVersion(playerStatsTable, transaction);
+
+        engine.setTableVersionRefreshInterval(Duration.ofHours(1));
+        try {
+            assertEquals(version, engine.getTableVersion(playerStatsTable, transaction));
+
+            // Served from memory, the request transaction is not used.
+            assertEquals(version, engine.getTableVersion(playerStatsTable, null));
+        } finally {
+            engine.setTableVersionRefreshInterval(null);
+        }
+    }
+
     /**
      * Test having clause integrates with group by clause.
      *
@@ -547,6 +603,48 @@ public class QueryEngineTest extends SQLUnitTest {
         assertEquals(ImmutableList.of(stats0), results);
     }
 
+    /**
+     * Test queries which only differ in filter values reuse the compiled SQL plan.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void testPlanCacheRebindsFilterValues() throws Exception {
+        List<Object> results = toList(engine.executeQuery(recordedDateQuery("2019-07-11"), transaction).getData());
+
+        PlayerStats stats0 = new PlayerStats();
+        stats0.setId("0");
+        stats0.setHighScore(2412);
+        stats0.setRecordedDate(new Day(Date.valueOf("2019-07-11")));
+
+        assertEquals(ImmutableList.of(stats0), results);
+
+        long hits = engine.getPlanCacheStats().hitCount();
+        results = toList(engine.executeQuery(recordedDateQuery("2019-07-12"), transaction).getData());
+
+        PlayerStats stats1 = new PlayerStats();
+        stats1.setId("0");
+        stats1.setHighScore(1234);
+        stats1.setRecordedDate(new Day(Date.valueOf("2019-07-12")));
+
+        assertEquals(ImmutableList.of(stats1), results);
+        assertEquals(hits + 1, engine.getPlanCacheStats().hitCount());
+    }
+
+    private Query recordedDateQuery(String date) {
+        FilterPredicate predicate = new FilterPredicate(
+                new Path(PlayerStats.class, dictionary, "recordedDate"),
+                Operator.IN,
+                Lists.newArrayList(new Day(Date.valueOf(date))));
+
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .whereFilter(predicate)
+                .build();
+    }
+
     @Test
     public void testAmbiguousFields() throws Exception {
         Map<String, Sorting.SortOrder> sortMap = new TreeMap<>();
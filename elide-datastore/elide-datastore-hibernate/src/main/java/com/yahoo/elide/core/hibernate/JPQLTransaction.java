@@ -18,8 +18,10 @@ import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Relationship;
@@ -27,10 +29,14 @@ import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -112,11 +118,19 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
         Pagination pagination = projection.getPagination();
 
+        // Keyset pages select the rows after the cursor rather than skipping an offset.
+        boolean isKeyset = KeysetPagination.isKeyset(pagination);
+        Map<Path, Sorting.SortOrder> key = isKeyset
+                ? KeysetPagination.getKey(projection, scope.getDictionary())
+                : null;
+        EntityProjection fetchProjection = isKeyset ? KeysetPagination.seek(projection, key) : projection;
+
         final Query query =
-                new RootCollectionFetchQueryBuilder(projection, scope.getDictionary(), sessionWrapper)
+                new RootCollectionFetchQueryBuilder(fetchProjection, scope.getDictionary(), sessionWrapper)
                         .build();
 
-        Iterable<T> results = isScrollEnabled ? query.scroll() : query.list();
+        // The next cursor comes from the last row, so keyset pages are not scrolled.
+        Iterable<T> results = isScrollEnabled && !isKeyset ? query.scroll() : query.list();
         final boolean hasResults;
         if (results instanceof Collection) {
             hasResults = !((Collection) results).isEmpty();
@@ -131,6 +145,10 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
             if (pagination.returnPageTotals() && (hasResults || pagination.getLimit() == 0)) {
                 pagination.setPageTotals(getTotalRecords(projection, scope.getDictionary()));
             }
+
+            if (isKeyset) {
+                pagination.setNextCursor(KeysetPagination.getNextCursor(results, pagination.getLimit(), key, scope));
+            }
         }
 
         return addSingleElement(results);
@@ -182,6 +200,74 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         return addSingleElement((R) val);
     }
 
+    /**
+     * Fetches a relationship for several parents with a single query when each parent would otherwise need its
+     * own query (because of filtering or sorting).  Non-default pagination and page totals apply to each parent
+     * separately, so those relationships are still fetched one parent at a time.
+     */
+    @Override
+    public <T, R> Map<T, R> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        FilterExpression filterExpression = relation.getProjection().getFilterExpression();
+        Sorting sorting = relation.getProjection().getSorting();
+        Pagination pagination = relation.getProjection().getPagination();
+
+        if (entities.size() < 2 || (filterExpression == null && sorting == null)
+                || (pagination != null && (!pagination.isDefaultInstance() || pagination.returnPageTotals()))) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relation, scope);
+        }
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<T, R> relations = new IdentityHashMap<>();
+        List<T> parents = new ArrayList<>();
+        Type<?> parentType = null;
+        for (T entity : entities) {
+            Type<?> entityType = dictionary.lookupEntityClass(EntityDictionary.getType(entity));
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
+            if ((parentType == null || parentType.equals(entityType))
+                    && val instanceof Collection && isPersistentCollection().test((Collection<?>) val)) {
+                parentType = entityType;
+                parents.add(entity);
+            } else {
+                relations.put(entity, getRelation(relationTx, entity, relation, scope));
+            }
+        }
+
+        if (parents.size() < 2) {
+            parents.forEach(entity -> relations.put(entity, getRelation(relationTx, entity, relation, scope)));
+            return relations;
+        }
+
+        // Partition the (parent, member) rows by parent id.  Each parent is fetched by exactly one query.
+        Map<String, List<Object>> members = new HashMap<>();
+        RelationshipImpl relationship = new RelationshipImpl(parentType, null, relation);
+        for (int start = 0; start < parents.size(); start += SubCollectionBatchFetchQueryBuilder.MAX_PARENTS) {
+            List<T> batch = parents.subList(start,
+                    Math.min(start + SubCollectionBatchFetchQueryBuilder.MAX_PARENTS, parents.size()));
+            Query query = new SubCollectionBatchFetchQueryBuilder(relationship, batch, dictionary, sessionWrapper)
+                    .build();
+
+            for (Object row : query.list()) {
+                Object[] pair = (Object[]) row;
+                List<Object> parentMembers =
+                        members.computeIfAbsent(dictionary.getId(pair[0]), id -> new ArrayList<>());
+                if (pagination == null || parentMembers.size() < pagination.getLimit()) {
+                    parentMembers.add(pair[1]);
+                }
+            }
+        }
+
+        for (T parent : parents) {
+            List<Object> parentMembers = members.getOrDefault(dictionary.getId(parent), new ArrayList<>());
+            relations.put(parent, addSingleElement((R) parentMembers));
+        }
+        return relations;
+    }
+
     protected abstract Predicate<Collection<?>> isPersistentCollection();
 
     /**
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Constructs a HQL query to fetch the members of a relationship for several parents at once.
+ */
+public class SubCollectionBatchFetchQueryBuilder extends SubCollectionFetchQueryBuilder {
+
+    /**
+     * The most parents bound to a single query.  Some databases (Oracle) reject IN lists of more than 1000 values,
+     * so larger sets of parents must be fetched with several queries.
+     */
+    public static final int MAX_PARENTS = 500;
+
+    private final Collection<?> parents;
+
+    /**
+     * Constructor.
+     *
+     * @param relationship The relationship to fetch.  Its parent is ignored.
+     * @param parents The parents whose relationship members are fetched.  At most {@link #MAX_PARENTS}.
+     * @param dictionary The entity dictionary
+     * @param session The session
+     */
+    public SubCollectionBatchFetchQueryBuilder(Relationship relationship,
+                                               Collection<?> parents,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(relationship, dictionary, session);
+        if (parents.size() > MAX_PARENTS) {
+            throw new IllegalArgumentException("At most " + MAX_PARENTS + " parents can be fetched at once");
+        }
+        this.parents = parents;
+    }
+
+    /**
+     * Constructs a query that returns (parent, member) pairs of a relationship for all parents.
+     * Pagination is not applied to the query: it applies to each parent separately.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String childAlias = getTypeAlias(relationship.getChildType());
+        String parentAlias = getTypeAlias(relationship.getParentType()) + "__fetch";
+        String parentName = relationship.getParentType().getCanonicalName();
+        String relationshipName = relationship.getRelationshipName();
+
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        Collection<FilterPredicate> predicates = new ArrayList<>();
+        String joinClause = getJoinClauseFromSort(entityProjection.getSorting())
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias);
+        String filterClause = "";
+
+        if (filterExpression != null) {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+            predicates = filterExpression.accept(extractor);
+            filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS) + " AND ";
+            joinClause = getJoinClauseFromFilters(filterExpression) + joinClause;
+        }
+
+        //SELECT parent, parent_children from Parent parent JOIN parent.children parent_children
+        //WHERE parent IN (:parents)
+        Query query = session.createQuery(SELECT
+                + parentAlias + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + joinClause
+                + WHERE
+                + filterClause
+                + parentAlias + " IN (:" + parentAlias + ")"
+                + SPACE
+                + getSortClause(entityProjection.getSorting())
+        );
+
+        supplyFilterQueryParameters(query, predicates);
+        query.setParameterList(parentAlias, parents);
+        return query;
+    }
+}
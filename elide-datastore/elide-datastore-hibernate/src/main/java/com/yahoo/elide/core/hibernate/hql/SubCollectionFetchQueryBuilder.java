@@ -23,7 +23,7 @@ import java.util.function.Predicate;
  */
 public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
-    private final Relationship relationship;
+    protected final Relationship relationship;
 
     public SubCollectionFetchQueryBuilder(Relationship relationship,
                                           EntityDictionary dictionary,
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionBatchFetchQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+
+    private static final String BOOKS = "books";
+    private static final String TITLE = "title";
+    private static final String PUBLISHER = "publisher";
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testBatchFetchWithSorting() {
+        Author first = new Author();
+        first.setId(1L);
+
+        Author second = new Author();
+        second.setId(2L);
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class)
+                .relationship(
+                        Relationship.builder().name(PUBLISHER).projection(
+                                EntityProjection.builder().type(Publisher.class).build()
+                        ).build()
+                )
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .build();
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                new RelationshipImpl(getClassType(Author.class), null, relationshipProjection),
+                Arrays.asList(first, second),
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher "
+                + "WHERE example_Author__fetch IN (:example_Author__fetch) order by example_Book.title asc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testBatchFetchWithFilter() {
+        Author first = new Author();
+        first.setId(1L);
+
+        Author second = new Author();
+        second.setId(2L);
+
+        List<Path.PathElement> titlePath = Arrays.asList(
+                new Path.PathElement(Book.class, String.class, TITLE)
+        );
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class)
+                .filterExpression(new InPredicate(new Path(titlePath), "ABC"))
+                .build();
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                new RelationshipImpl(getClassType(Author.class), null, relationshipProjection),
+                Arrays.asList(first, second),
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "WHERE example_Book.title IN (:title_XXX) AND example_Author__fetch IN (:example_Author__fetch)";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceFirst(":title_\\w+", ":title_XXX");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testBatchFetchRejectsTooManyParents() {
+        List<Author> parents = new ArrayList<>();
+        for (long id = 0; id <= SubCollectionBatchFetchQueryBuilder.MAX_PARENTS; id++) {
+            Author author = new Author();
+            author.setId(id);
+            parents.add(author);
+        }
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS)
+                .projection(EntityProjection.builder().type(Book.class).build())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> new SubCollectionBatchFetchQueryBuilder(
+                new RelationshipImpl(getClassType(Author.class), null, relationshipProjection),
+                parents,
+                dictionary,
+                new TestSessionWrapper()
+        ));
+    }
+}
@@ -11,6 +11,9 @@ import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Sorting;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -80,4 +83,37 @@ public interface BridgeableTransaction {
                                  Optional<Sorting> sorting,
                                  Optional<Pagination> pagination,
                                  RequestScope scope);
+
+    /**
+     * Load a relation of several parents from a bridgeable store at once.
+     *
+     * <em>NOTE:</em> By default, the relation is loaded for each parent in turn.  Stores which can load the relation
+     *       of many parents in a single round trip (e.g. with an IN filter on the derived keys) should override this.
+     *
+     * @param muxTx  Multiplex transaction
+     * @param parents  Parent objects
+     * @param relationName  Relation name on parents to expected entities
+     * @param toMany  Whether the relation is a collection
+     * @param filterExpression  Filter expression to apply to query
+     * @param sorting  Sorting method for collections
+     * @param pagination  Pagination for collections
+     * @param scope  Request scope
+     * @return Loaded object (or iterable of objects for a to-many relation) keyed by parent.
+     */
+    default Map<Object, Object> bridgeableLoadRelations(MultiplexTransaction muxTx,
+                                                        Collection<?> parents,
+                                                        String relationName,
+                                                        boolean toMany,
+                                                        Optional<FilterExpression> filterExpression,
+                                                        Optional<Sorting> sorting,
+                                                        Optional<Pagination> pagination,
+                                                        RequestScope scope) {
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        for (Object parent : parents) {
+            relations.put(parent, toMany
+                    ? bridgeableLoadObjects(muxTx, parent, relationName, filterExpression, sorting, pagination, scope)
+                    : bridgeableLoadObject(muxTx, parent, relationName, null, filterExpression, scope));
+        }
+        return relations;
+    }
 }
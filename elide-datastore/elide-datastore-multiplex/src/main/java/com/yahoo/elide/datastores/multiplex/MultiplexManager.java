@@ -17,6 +17,7 @@ import lombok.Setter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Allows multiple database handlers to each process their own beans while keeping the main
@@ -37,6 +38,7 @@ public final class MultiplexManager implements DataStore {
 
     protected final List<DataStore> dataStores;
     protected final ConcurrentHashMap<Type<?>, DataStore> dataStoreMap = new ConcurrentHashMap<>();
+    protected final Executor executor;
 
     @Setter(AccessLevel.PROTECTED)
     private EntityDictionary dictionary;
@@ -46,6 +48,22 @@ public final class MultiplexManager implements DataStore {
      * @param dataStores list of sub-managers
      */
     public MultiplexManager(DataStore... dataStores) {
+        this(null, dataStores);
+    }
+
+    /**
+     * Create a single DataStore to handle provided managers within a single transaction.
+     * <p>
+     * Sub-transactions are flushed and pre-committed concurrently on the executor, so a request pays for the
+     * slowest store rather than the sum of all of them.  Write transactions still commit (and reverse) their
+     * sub-transactions one after another, in order.  The executor should be bounded.  Tasks it rejects run on
+     * the calling thread.  Sub-transactions must tolerate being flushed from a thread other than the one which
+     * began them.
+     * @param executor executor for flushing sub-transactions concurrently, or null to flush them in order
+     * @param dataStores list of sub-managers
+     */
+    public MultiplexManager(Executor executor, DataStore... dataStores) {
+        this.executor = executor;
         this.dataStores = Arrays.asList(dataStores);
     }
 
@@ -24,10 +24,20 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Multiplex transaction handler.  Process each sub-database transactions within a single transaction.
@@ -69,25 +79,74 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
 
     @Override
     public void flush(RequestScope requestScope) {
-        transactions.values().stream()
-                .filter(dataStoreTransaction -> dataStoreTransaction != null)
-                .forEach(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
+        forEachTransaction(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
     }
 
     @Override
     public void preCommit(RequestScope scope) {
-        transactions.values().stream()
-                .filter(dataStoreTransaction -> dataStoreTransaction != null)
-                .forEach(tx -> tx.preCommit(scope));
+        forEachTransaction(tx -> tx.preCommit(scope));
     }
 
     @Override
     public void commit(RequestScope scope) {
         // flush all before commit
         flush(scope);
-        transactions.values().stream()
-               .filter(dataStoreTransaction -> dataStoreTransaction != null)
-               .forEach(dataStoreTransaction -> dataStoreTransaction.commit(scope));
+        forEachTransaction(dataStoreTransaction -> dataStoreTransaction.commit(scope));
+    }
+
+    /**
+     * Runs an action against every started sub-transaction.  If the manager has an executor and more than one
+     * sub-transaction has started, the actions run concurrently and this waits for all of them to finish.
+     * The first failure is rethrown with any others suppressed.
+     * @param action action to run against each sub-transaction
+     */
+    protected void forEachTransaction(Consumer<DataStoreTransaction> action) {
+        List<DataStoreTransaction> started = transactions.values().stream()
+                .filter(dataStoreTransaction -> dataStoreTransaction != null)
+                .collect(Collectors.toList());
+
+        if (multiplexManager.executor == null || started.size() < 2) {
+            started.forEach(action);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(started.size());
+        for (DataStoreTransaction transaction : started) {
+            CompletableFuture<Void> future;
+            try {
+                future = CompletableFuture.runAsync(() -> action.accept(transaction), multiplexManager.executor);
+            } catch (RejectedExecutionException e) {
+                future = new CompletableFuture<>();
+                try {
+                    action.accept(transaction);
+                    future.complete(null);
+                } catch (Error | RuntimeException failure) {
+                    future.completeExceptionally(failure);
+                }
+            }
+            futures.add(future);
+        }
+
+        Throwable cause = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CancellationException | CompletionException e) {
+                Throwable failure = e.getCause() == null ? e : e.getCause();
+                if (cause == null) {
+                    cause = failure;
+                } else {
+                    cause.addSuppressed(failure);
+                }
+            }
+        }
+
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause != null) {
+            throw (RuntimeException) cause;
+        }
     }
 
     @Override
@@ -186,6 +245,60 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return entityTransaction.getRelation(relationTx, entity, relation, scope);
     }
 
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction tx,
+                                         Collection<T> entities,
+                                         Relationship relation,
+                                         RequestScope scope) {
+
+        // Entities of different types may live in different stores.
+        Map<Type<?>, List<T>> entitiesByType = new LinkedHashMap<>();
+        entities.forEach(entity ->
+                entitiesByType.computeIfAbsent(EntityDictionary.getType(entity), key -> new ArrayList<>()).add(entity));
+
+        Map<T, R> relations = new IdentityHashMap<>();
+        entitiesByType.forEach((entityType, group) -> {
+            DataStoreTransaction relationTx = getRelationTransaction(group.get(0), relation.getName());
+            DataStoreTransaction entityTransaction = getTransaction(entityType);
+
+            // If different transactions, check if bridgeable and try to bridge
+            if (entityTransaction != relationTx && relationTx instanceof BridgeableTransaction) {
+                relations.putAll(bridgeRelations((BridgeableTransaction) relationTx, entityType, group, relation,
+                        scope));
+            } else {
+                relations.putAll(entityTransaction.getRelations(relationTx, group, relation, scope));
+            }
+        });
+        return relations;
+    }
+
+    private <T, R> Map<T, R> bridgeRelations(BridgeableTransaction bridgeableTx,
+                                             Type<?> entityType,
+                                             List<T> entities,
+                                             Relationship relation,
+                                             RequestScope scope) {
+        FilterExpression filter = relation.getProjection().getFilterExpression();
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Type<?> relationClass = dictionary.getParameterizedType(entityType, relation.getName());
+        String idFieldName = dictionary.getIdFieldName(relationClass);
+
+        // Lookups by id are specific to each parent.
+        if (filter != null && extractId(filter, idFieldName, relationClass) != null) {
+            Map<T, R> relations = new IdentityHashMap<>();
+            entities.forEach(entity -> relations.put(entity, getRelation(this, entity, relation, scope)));
+            return relations;
+        }
+
+        RelationshipType relationType = dictionary.getRelationshipType(entityType, relation.getName());
+        return (Map<T, R>) bridgeableTx.bridgeableLoadRelations(this, entities, relation.getName(),
+                relationType.isToMany(),
+                Optional.ofNullable(filter),
+                Optional.ofNullable(relation.getProjection().getSorting()),
+                Optional.ofNullable(relation.getProjection().getPagination()),
+                scope);
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction tx,
                                      T entity, String relationName,
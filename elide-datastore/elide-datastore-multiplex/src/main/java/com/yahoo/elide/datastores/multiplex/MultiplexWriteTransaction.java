@@ -13,27 +13,39 @@ import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
-import com.yahoo.elide.core.type.Field;
-import com.yahoo.elide.core.type.Method;
 import com.yahoo.elide.core.type.Type;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 /**
  * Multiplex transaction handler.
+ * <p>
+ * Before an object is handed out, the values of its persisted fields are recorded.  If a commit fails, the
+ * stores already committed are reversed by restoring the fields of their dirty objects which changed since.
+ * <p>
+ * To-many relationships are usually modified in place, so their members are not compared.  Instead, the members
+ * added and removed through {@link #updateToManyRelation} are recorded and undone.  Copying the members up front
+ * would load every lazy collection handed out.
  */
 public class MultiplexWriteTransaction extends MultiplexTransaction {
     private static final Object NEWLY_CREATED_OBJECT = new Object();
-    private final IdentityHashMap<Object, Object> clonedObjects = new IdentityHashMap<>();
+    private final IdentityHashMap<Object, Object> snapshots = new IdentityHashMap<>();
     private final MultivaluedHashMap<DataStore, Object> dirtyObjects = new MultivaluedHashMap<>();
+    private final Map<Type<?>, List<String>> snapshotFields = new HashMap<>();
+    private final IdentityHashMap<Object, List<CollectionChange>> collectionChanges = new IdentityHashMap<>();
 
     public MultiplexWriteTransaction(MultiplexManager multiplexManager) {
         super(multiplexManager);
@@ -64,6 +76,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         // flush all before commits
         flush(scope);
 
+        // Commit in order so that the stores already committed can be reversed if a later commit fails
         ArrayList<DataStore> commitList = new ArrayList<>();
         for (Entry<DataStore, DataStoreTransaction> entry : transactions.entrySet()) {
             try {
@@ -90,11 +103,12 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
             try (DataStoreTransaction transaction = dataStore.beginTransaction()) {
                 List<Object> list = dirtyObjects.get(dataStore);
                 for (Object dirtyObject : list == null ? Collections.emptyList() : list) {
-                    Object cloned = clonedObjects.get(dirtyObject);
-                    if (cloned == NEWLY_CREATED_OBJECT) {
+                    Object snapshot = snapshots.get(dirtyObject);
+                    if (snapshot == NEWLY_CREATED_OBJECT) {
                         transaction.delete(dirtyObject, requestScope);
-                    } else {
-                        transaction.save(cloned, requestScope);
+                    } else if (snapshot != null) {
+                        restore(dirtyObject, (Map<String, Object>) snapshot, requestScope);
+                        transaction.save(dirtyObject, requestScope);
                     }
                 }
                 transaction.commit(requestScope);
@@ -110,59 +124,125 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         DataStoreTransaction transaction = getTransaction(EntityDictionary.getType(entity));
         transaction.createObject(entity, scope);
         // mark this object as newly created to be deleted on reverse transaction
-        clonedObjects.put(entity, NEWLY_CREATED_OBJECT);
+        snapshots.put(entity, NEWLY_CREATED_OBJECT);
     }
 
-    private <T> Iterable<T> hold(DataStoreTransaction transaction, Iterable<T> list) {
+    private <T> Iterable<T> hold(DataStoreTransaction transaction, Iterable<T> list, RequestScope scope) {
         ArrayList<T> newList = new ArrayList<>();
         list.forEach(newList::add);
         for (T object : newList) {
-            hold(transaction, object);
+            hold(transaction, object, scope);
         }
         return newList;
     }
 
     /**
-     * Save cloned copy of object for possible reverse transaction.
+     * Save a snapshot of an object for possible reverse transaction.  Objects already held keep their first
+     * snapshot.
      * @param subTransaction database sub-transaction
-     * @param object entity to clone
+     * @param object entity to snapshot
+     * @param scope request scope
      * @return original object
      */
-    private <T> T hold(DataStoreTransaction subTransaction, T object) {
-        clonedObjects.put(object, cloneObject(object));
+    private <T> T hold(DataStoreTransaction subTransaction, T object, RequestScope scope) {
+        if (object != null && !snapshots.containsKey(object)) {
+            snapshots.put(object, snapshot(object, scope));
+        }
         return object;
     }
 
     /**
-     *  Clone contents of object for possible reverse transaction.
+     * Record the values of the persisted fields of an object.
+     * @return the field values or null if the object cannot be restored
      */
-    private Object cloneObject(Object object) {
-        if (object == null) {
+    private Map<String, Object> snapshot(Object object, RequestScope scope) {
+        EntityDictionary dictionary = multiplexManager.getDictionary();
+        Type<?> cls = dictionary.lookupBoundClass(EntityDictionary.getType(object));
+        if (cls == null) {
             return null;
         }
 
-        Type<?> cls = multiplexManager.getDictionary().lookupBoundClass(EntityDictionary.getType(object));
+        List<String> fields = snapshotFields.computeIfAbsent(cls, type -> getSnapshotFields(dictionary, type));
+        Map<String, Object> values = new HashMap<>(fields.size() * 2);
         try {
-            Object clone = cls.newInstance();
-            for (Field field : cls.getFields()) {
-                field.set(clone, field.get(object));
+            for (String field : fields) {
+                values.put(field, dictionary.getValue(object, field, scope));
             }
-            for (Method method : cls.getMethods()) {
-                if (method.getName().startsWith("set")) {
-                    try {
-                        Method getMethod = cls.getMethod("get" + method.getName().substring(3));
-                        method.invoke(clone, getMethod.invoke(object));
-                    } catch (IllegalStateException | IllegalArgumentException
-                            | ReflectiveOperationException | SecurityException e) {
-                        return null;
-                    }
-                }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return values;
+    }
+
+    /**
+     * Get the fields of a type to snapshot: every bound field except the id and computed fields.
+     */
+    private static List<String> getSnapshotFields(EntityDictionary dictionary, Type<?> cls) {
+        String idFieldName = dictionary.getIdFieldName(cls);
+        return dictionary.getEntityBinding(cls).fieldsToValues.keySet().stream()
+                .filter(field -> !field.equals(idFieldName))
+                .filter(field -> !dictionary.isComputed(cls, field))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Restore the fields of an object which changed since its snapshot.
+     */
+    private void restore(Object object, Map<String, Object> snapshot, RequestScope scope) {
+        // Undo the changes to collections in the reverse order they were made.
+        List<CollectionChange> changes = collectionChanges.getOrDefault(object, Collections.emptyList());
+        for (int index = changes.size() - 1; index >= 0; index--) {
+            changes.get(index).undo();
+        }
+
+        EntityDictionary dictionary = multiplexManager.getDictionary();
+        snapshot.forEach((field, value) -> {
+            if (dictionary.getValue(object, field, scope) != value) {
+                dictionary.setValue(object, field, value);
             }
-            return clone;
-        } catch (InstantiationException | IllegalAccessException e) {
-            // ignore
+        });
+    }
+
+    @Override
+    public <T, R> void updateToManyRelation(DataStoreTransaction tx,
+                                            T entity, String relationName,
+                                            Set<R> newRelationships,
+                                            Set<R> deletedRelationships,
+                                            RequestScope scope) {
+        super.updateToManyRelation(tx, entity, relationName, newRelationships, deletedRelationships, scope);
+
+        // Only relationships which are restored from a snapshot need their changes undone.
+        Object snapshot = snapshots.get(entity);
+        if (!(snapshot instanceof Map) || !((Map<String, Object>) snapshot).containsKey(relationName)) {
+            return;
+        }
+
+        Object collection = multiplexManager.getDictionary().getValue(entity, relationName, scope);
+        if (collection instanceof Collection) {
+            collectionChanges.computeIfAbsent(entity, key -> new ArrayList<>()).add(new CollectionChange(
+                    (Collection<Object>) collection, new ArrayList<>(newRelationships),
+                    new ArrayList<>(deletedRelationships)));
+        }
+    }
+
+    /**
+     * Members added to and removed from a to-many relationship.
+     */
+    private static final class CollectionChange {
+        private final Collection<Object> collection;
+        private final List<Object> added;
+        private final List<Object> removed;
+
+        CollectionChange(Collection<Object> collection, List<Object> added, List<Object> removed) {
+            this.collection = collection;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        void undo() {
+            collection.removeAll(added);
+            collection.addAll(removed);
         }
-        return null;
     }
 
     @Override
@@ -170,7 +250,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
                              Serializable id,
                              RequestScope scope) {
         DataStoreTransaction transaction = getTransaction(projection.getType());
-        return hold(transaction, (T) transaction.loadObject(projection, id, scope));
+        return hold(transaction, (T) transaction.loadObject(projection, id, scope), scope);
     }
 
     @Override
@@ -178,7 +258,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
             EntityProjection projection,
             RequestScope scope) {
         DataStoreTransaction transaction = getTransaction(projection.getType());
-        return hold(transaction, transaction.loadObjects(projection, scope));
+        return hold(transaction, transaction.loadObjects(projection, scope), scope);
     }
 
     @Override
@@ -190,9 +270,28 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         Object relation = super.getRelation(relationTx, entity, relationship, scope);
 
         if (relation instanceof Iterable) {
-            return (R) hold(transaction, (Iterable<R>) relation);
+            return (R) hold(transaction, (Iterable<R>) relation, scope);
         }
 
-        return (R) hold(transaction, relation);
+        return (R) hold(transaction, relation, scope);
+    }
+
+    @Override
+    public <T, R> Map<T, R> getRelations(DataStoreTransaction relationTx,
+                                         Collection<T> entities,
+                                         Relationship relationship,
+                                         RequestScope scope) {
+        Map<T, R> relations = super.getRelations(relationTx, entities, relationship, scope);
+
+        Map<T, R> held = new IdentityHashMap<>();
+        relations.forEach((entity, relation) -> {
+            DataStoreTransaction transaction = getTransaction(EntityDictionary.getType(entity));
+            if (relation instanceof Iterable) {
+                held.put(entity, (R) hold(transaction, (Iterable<?>) relation, scope));
+            } else {
+                held.put(entity, hold(transaction, relation, scope));
+            }
+        });
+        return held;
     }
 }
@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.multiplex;
 
 import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
@@ -104,6 +105,20 @@ public class BridgeableStoreTest extends IntegrationTest {
                 .body(not(containsString("user2")));
     }
 
+    @Test
+    public void testFetchBridgeableStoreToManyForCollection() {
+        given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/hibernateUser?include=redisActions")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.find { it.id == '1' }.relationships.redisActions.data.id", containsInAnyOrder("1", "2"))
+                .body("data.find { it.id == '2' }.relationships.redisActions.data.id",
+                        containsInAnyOrder("3", "4", "5"))
+                .body("included.attributes.description", containsInAnyOrder("user1actionid1", "user1actionid2",
+                        "user2actionid1", "user2actionid2", "user2actionid3"));
+    }
+
     @Test
     public void testFetchBridgeableStoreLoadSingleObjectToMany() {
         given()
@@ -6,16 +6,43 @@
 package com.yahoo.elide.datastores.multiplex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.example.beans.HibernateUser;
+import com.yahoo.elide.example.hbase.beans.RedisActions;
+import example.Child;
+import example.Parent;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Tests MultiplexTransaction.
  */
@@ -51,4 +78,215 @@ public class MultiplexTransactionTest {
         assertEquals(0, countInitializedTransaction);
 
     }
+
+    @Test
+    public void testParallelFlush() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(executor, store1, store2);
+            MultiplexReadTransaction multiplexTx = (MultiplexReadTransaction) store.beginReadTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            multiplexTx.flush(scope);
+
+            verify(tx1, Mockito.times(1)).flush(scope);
+            verify(tx2, Mockito.times(1)).flush(scope);
+
+            // A failing sub-transaction does not stop the others from flushing.
+            doThrow(new IllegalStateException()).when(tx1).flush(scope);
+            assertThrows(IllegalStateException.class, () -> multiplexTx.flush(scope));
+
+            verify(tx2, Mockito.times(2)).flush(scope);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetRelationsWithinOneStore() throws Exception {
+        DataStore redisStore = storeOf(RedisActions.class);
+        DataStore userStore = storeOf(HibernateUser.class);
+        DataStoreTransaction redisTx = mock(DataStoreTransaction.class);
+        DataStoreTransaction userTx = mock(DataStoreTransaction.class);
+        when(redisStore.beginReadTransaction()).thenReturn(redisTx);
+        when(userStore.beginReadTransaction()).thenReturn(userTx);
+        RequestScope scope = mock(RequestScope.class);
+        MultiplexManager manager = manager(scope, redisStore, userStore);
+
+        HibernateUser user1 = user(1L);
+        HibernateUser user2 = user(2L);
+        Map<Object, Object> loaded = new IdentityHashMap<>();
+        loaded.put(user1, Collections.singletonList(action("1")));
+        loaded.put(user2, Collections.emptyList());
+        when(userTx.getRelations(eq(redisTx), any(), any(), eq(scope))).thenReturn(loaded);
+
+        DataStoreTransaction multiplexTx = new MultiplexReadTransaction(manager);
+        Map<HibernateUser, Object> relations =
+                multiplexTx.getRelations(multiplexTx, Arrays.asList(user1, user2), redisActions(), scope);
+
+        assertSame(loaded.get(user1), relations.get(user1));
+        assertSame(loaded.get(user2), relations.get(user2));
+
+        // The parents of one type are handed to their store together.
+        verify(userTx, Mockito.times(1)).getRelations(eq(redisTx), eq(Arrays.asList(user1, user2)), any(), eq(scope));
+        verify(userTx, never()).getRelation(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testGetRelationsAcrossBridgeableStores() throws Exception {
+        DataStore redisStore = storeOf(RedisActions.class);
+        DataStore userStore = storeOf(HibernateUser.class);
+        DataStoreTransaction redisTx = mock(DataStoreTransaction.class,
+                withSettings().extraInterfaces(BridgeableTransaction.class));
+        DataStoreTransaction userTx = mock(DataStoreTransaction.class);
+        when(redisStore.beginReadTransaction()).thenReturn(redisTx);
+        when(userStore.beginReadTransaction()).thenReturn(userTx);
+        RequestScope scope = mock(RequestScope.class);
+        MultiplexManager manager = manager(scope, redisStore, userStore);
+
+        HibernateUser user1 = user(1L);
+        HibernateUser user2 = user(2L);
+        Map<Object, Object> loaded = new IdentityHashMap<>();
+        loaded.put(user1, Collections.singletonList(action("1")));
+        loaded.put(user2, Collections.singletonList(action("3")));
+        BridgeableTransaction bridgeableTx = (BridgeableTransaction) redisTx;
+        when(bridgeableTx.bridgeableLoadRelations(any(), any(), anyString(), anyBoolean(), any(), any(), any(), any()))
+                .thenReturn(loaded);
+
+        MultiplexTransaction multiplexTx = new MultiplexReadTransaction(manager);
+        Map<HibernateUser, Object> relations =
+                multiplexTx.getRelations(multiplexTx, Arrays.asList(user1, user2), redisActions(), scope);
+
+        assertSame(loaded.get(user1), relations.get(user1));
+        assertSame(loaded.get(user2), relations.get(user2));
+
+        // The relation of every parent is bridged in a single call.
+        verify(bridgeableTx, Mockito.times(1)).bridgeableLoadRelations(eq(multiplexTx),
+                eq(Arrays.asList(user1, user2)), eq("redisActions"), eq(true), any(), any(), any(), eq(scope));
+        verify(bridgeableTx, never()).bridgeableLoadObjects(any(), any(), any(), any(), any(), any(), any());
+        verify(userTx, never()).getRelations(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testGetRelationsAreRestoredWhenCommitFails() throws Exception {
+        DataStore redisStore = storeOf(RedisActions.class);
+        DataStore userStore = storeOf(HibernateUser.class);
+        DataStoreTransaction redisTx = mock(DataStoreTransaction.class);
+        DataStoreTransaction userTx = mock(DataStoreTransaction.class);
+        DataStoreTransaction reverseTx = mock(DataStoreTransaction.class);
+        when(redisStore.beginTransaction()).thenReturn(redisTx, reverseTx);
+        when(userStore.beginTransaction()).thenReturn(userTx);
+        RequestScope scope = mock(RequestScope.class);
+        MultiplexManager manager = manager(scope, redisStore, userStore);
+
+        HibernateUser user = user(1L);
+        RedisActions action = action("1");
+        Map<Object, Object> loaded = new IdentityHashMap<>();
+        loaded.put(user, Collections.singletonList(action));
+        when(userTx.getRelations(eq(redisTx), any(), any(), eq(scope))).thenReturn(loaded);
+
+        DataStoreTransaction multiplexTx = new MultiplexWriteTransaction(manager);
+        Map<HibernateUser, Object> relations =
+                multiplexTx.getRelations(multiplexTx, Collections.singletonList(user), redisActions(), scope);
+        assertEquals(Collections.singletonList(action), relations.get(user));
+
+        action.setDescription("changed");
+        multiplexTx.save(action, scope);
+
+        // The redis store commits first, so it is reversed when the user store fails.
+        doThrow(new IllegalStateException()).when(userTx).commit(scope);
+        assertThrows(TransactionException.class, () -> multiplexTx.commit(scope));
+
+        assertEquals("action1", action.getDescription());
+        verify(reverseTx, Mockito.times(1)).save(action, scope);
+        verify(reverseTx, Mockito.times(1)).commit(scope);
+    }
+
+    @Test
+    public void testCollectionsModifiedInPlaceAreRestoredWhenCommitFails() throws Exception {
+        DataStore parentStore = storeOf(Parent.class, Child.class);
+        DataStore userStore = storeOf(HibernateUser.class);
+        DataStoreTransaction parentTx = mock(DataStoreTransaction.class);
+        DataStoreTransaction userTx = mock(DataStoreTransaction.class);
+        DataStoreTransaction reverseTx = mock(DataStoreTransaction.class);
+        when(parentStore.beginTransaction()).thenReturn(parentTx, reverseTx);
+        when(userStore.beginTransaction()).thenReturn(userTx);
+        RequestScope scope = mock(RequestScope.class);
+        MultiplexManager manager = manager(scope, parentStore, userStore);
+
+        Child first = new Child();
+        first.setId(1);
+        Child second = new Child();
+        second.setId(2);
+        Parent parent = new Parent();
+        parent.setId(1);
+        parent.setChildren(new HashSet<>(Collections.singletonList(first)));
+        Set<Child> children = parent.getChildren();
+        when(parentTx.loadObject(any(), any(), eq(scope))).thenReturn(parent);
+
+        DataStoreTransaction multiplexTx = new MultiplexWriteTransaction(manager);
+        multiplexTx.loadObject(EntityProjection.builder().type(Parent.class).build(), 1L, scope);
+
+        // The relationship is modified in place, as Elide does.
+        children.remove(first);
+        children.add(second);
+        multiplexTx.updateToManyRelation(multiplexTx, parent, "children",
+                Collections.singleton(second), Collections.singleton(first), scope);
+        multiplexTx.save(parent, scope);
+        multiplexTx.save(user(1L), scope);
+
+        // The parent store commits first, so it is reversed when the user store fails.
+        doThrow(new IllegalStateException()).when(userTx).commit(scope);
+        assertThrows(TransactionException.class, () -> multiplexTx.commit(scope));
+
+        assertSame(children, parent.getChildren());
+        assertEquals(Collections.singleton(first), children);
+        verify(reverseTx, Mockito.times(1)).save(parent, scope);
+    }
+
+    private static DataStore storeOf(Class<?>... entityClasses) {
+        DataStore store = mock(DataStore.class);
+        doAnswer(invocation -> {
+            for (Class<?> entityClass : entityClasses) {
+                ((EntityDictionary) invocation.getArgument(0)).bindEntity(entityClass);
+            }
+            return null;
+        }).when(store).populateEntityDictionary(any());
+        return store;
+    }
+
+    private static MultiplexManager manager(RequestScope scope, DataStore... stores) {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        MultiplexManager manager = new MultiplexManager(stores);
+        manager.populateEntityDictionary(dictionary);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        return manager;
+    }
+
+    private static Relationship redisActions() {
+        return Relationship.builder()
+                .name("redisActions")
+                .projection(EntityProjection.builder().type(RedisActions.class).build())
+                .build();
+    }
+
+    private static HibernateUser user(long id) {
+        HibernateUser user = new HibernateUser();
+        user.setId(id);
+        return user;
+    }
+
+    private static RedisActions action(String id) {
+        RedisActions action = new RedisActions();
+        action.setId(id);
+        action.setDescription("action" + id);
+        return action;
+    }
 }
@@ -37,6 +37,10 @@ import redis.clients.jedis.Jedis;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -187,6 +191,39 @@ public class BridgeableRedisStore implements DataStore {
             throw new RuntimeException("Unsupported bridging attempted!");
         }
 
+        @Override
+        public Map<Object, Object> bridgeableLoadRelations(MultiplexTransaction muxTx,
+                                                           Collection<?> parents,
+                                                           String relationName,
+                                                           boolean toMany,
+                                                           Optional<FilterExpression> filterExpression,
+                                                           Optional<Sorting> sorting,
+                                                           Optional<Pagination> pagination,
+                                                           RequestScope scope) {
+            // Pages are specific to each parent.
+            if (!"redisActions".equals(relationName) || pagination.isPresent()
+                    || parents.stream().anyMatch(parent -> !parent.getClass().equals(HibernateUser.class))) {
+                return BridgeableTransaction.super.bridgeableLoadRelations(muxTx, parents, relationName, toMany,
+                        filterExpression, sorting, pagination, scope);
+            }
+
+            Map<Object, String> userKeys = new IdentityHashMap<>();
+            parents.forEach(parent -> userKeys.put(parent, "user" + ((HibernateUser) parent).getId()));
+            Set<String> keys = new HashSet<>(userKeys.values());
+
+            // A single round trip for the actions of every parent.
+            Map<String, List<Object>> actionsByUser = BridgeableStoreTest.REDIS_CLIENT
+                    .hgetAll(RedisActions.class.getCanonicalName()).entrySet().stream()
+                    .filter(e -> keys.contains(e.getKey().split(":")[0]))
+                    .collect(Collectors.groupingBy(e -> e.getKey().split(":")[0],
+                            Collectors.mapping(this::deserializeAction, Collectors.toList())));
+
+            Map<Object, Object> relations = new IdentityHashMap<>();
+            userKeys.forEach((parent, userKey) ->
+                    relations.put(parent, actionsByUser.getOrDefault(userKey, Collections.emptyList())));
+            return relations;
+        }
+
         // ---- Unsupported operations ----
 
         @Override
@@ -21,6 +21,7 @@ import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Sorting;
@@ -84,6 +85,9 @@ public class SearchDataTransaction extends TransactionWrapper {
             canSearch = canSearch && canSort(projection.getSorting(), projection.getType());
         }
 
+        // The index cannot seek past a keyset cursor, so keyset pages are left to the wrapped store.
+        canSearch = canSearch && !KeysetPagination.isKeyset(projection.getPagination());
+
         if (canSearch) {
             return search(projection.getType(), projection.getFilterExpression(),
                     Optional.ofNullable(projection.getSorting()),
@@ -8,6 +8,7 @@ package com.yahoo.elide.graphql;
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.BatchedRelationshipTransaction;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.graphql.parser.GraphQLProjectionInfo;
 import lombok.Getter;
@@ -41,11 +42,18 @@ public class GraphQLRequestScope extends RequestScope {
         // we should have a GraphQLRequestScope and a JSONAPIRequestScope.
         // TODO: What should mutate multiple entity value be? There is a problem with this setting in practice.
         // Namely, we don't filter or paginate in the data store.
-        super(baseUrlEndpoint, "/", apiVersion, null, transaction, user,
+        super(baseUrlEndpoint, "/", apiVersion, null, new BatchedRelationshipTransaction(transaction), user,
                 new MultivaluedHashMap<>(), requestHeaders, requestId, elideSettings);
         this.projectionInfo = projectionInfo;
 
         // Entity Projection is retrieved from projectionInfo.
         this.setEntityProjection(null);
     }
+
+    /**
+     * @return The transaction of this request, which batches relationship fetches of sibling objects.
+     */
+    public BatchedRelationshipTransaction getBatchedTransaction() {
+        return (BatchedRelationshipTransaction) getTransaction();
+    }
 }
@@ -9,6 +9,7 @@ package com.yahoo.elide.graphql;
 import static com.yahoo.elide.graphql.ModelBuilder.ARGUMENT_OPERATION;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.wrapped.BatchedRelationshipTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
@@ -82,6 +83,9 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
         /* sanity check for pagination/filtering/sorting arguments w any operation other than FETCH */
         if (operation != RelationshipOp.FETCH) {
             filterSortPaginateSanityCheck(context);
+
+            // Relationships batched so far may no longer reflect the objects being modified.
+            batchedTransaction(context.requestScope).ifPresent(BatchedRelationshipTransaction::clearSiblings);
         }
 
         /* delegate request */
@@ -192,8 +196,10 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
             return PersistentResource.loadRecords(projection, idList, requestScope);
         }).orElseGet(() -> PersistentResource.loadRecords(projection, new ArrayList<>(), requestScope));
 
-        return new ConnectionContainer(records.toList(LinkedHashSet::new).blockingGet(),
-                Optional.ofNullable(projection.getPagination()), typeName);
+        Set<PersistentResource> resources = records.toList(LinkedHashSet::new).blockingGet();
+        batchedTransaction(requestScope).ifPresent(tx -> tx.addSiblings(resources));
+
+        return new ConnectionContainer(resources, Optional.ofNullable(projection.getPagination()), typeName);
     }
 
     /**
@@ -218,8 +224,10 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
             relationResources =
                     parentResource.getRelation(ids.get(), relationship).toList(LinkedHashSet::new).blockingGet();
         } else {
-            relationResources =
+            Set<PersistentResource> fetched =
                     parentResource.getRelationCheckedFiltered(relationship).toList(LinkedHashSet::new).blockingGet();
+            batchedTransaction(parentResource.getRequestScope()).ifPresent(tx -> tx.addSiblings(fetched));
+            relationResources = fetched;
         }
 
         return new ConnectionContainer(
@@ -228,6 +236,12 @@ public class PersistentResourceFetcher implements DataFetcher<Object> {
                 relationshipType);
     }
 
+    private static Optional<BatchedRelationshipTransaction> batchedTransaction(RequestScope requestScope) {
+        return requestScope instanceof GraphQLRequestScope
+                ? Optional.of(((GraphQLRequestScope) requestScope).getBatchedTransaction())
+                : Optional.empty();
+    }
+
     private ConnectionContainer upsertObjects(Environment context) {
         return upsertOrUpdateObjects(
                 context,
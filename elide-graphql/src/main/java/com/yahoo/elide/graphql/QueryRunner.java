@@ -26,12 +26,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.language.Document;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -55,6 +58,11 @@ public class QueryRunner {
     private GraphQL api;
     private String apiVersion;
 
+    // Parsed queries keyed by query text.  Clients tend to send the same handful of queries over and over.
+    private final Cache<String, Document> documentCache;
+
+    public static final int DEFAULT_DOCUMENT_CACHE_MAXIMUM_ENTRIES = 1024;
+
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
@@ -65,8 +73,21 @@ public class QueryRunner {
      * @param elide The singular elide instance for this service.
      */
     public QueryRunner(Elide elide, String apiVersion) {
+        this(elide, apiVersion, DEFAULT_DOCUMENT_CACHE_MAXIMUM_ENTRIES);
+    }
+
+    /**
+     * Builds a new query runner.
+     * @param elide The singular elide instance for this service.
+     * @param apiVersion The API version served by this runner.
+     * @param documentCacheMaximumEntries Limit on the number of parsed queries kept.  Zero disables the cache.
+     */
+    public QueryRunner(Elide elide, String apiVersion, int documentCacheMaximumEntries) {
         this.elide = elide;
         this.apiVersion = apiVersion;
+        this.documentCache = documentCacheMaximumEntries > 0
+                ? CacheBuilder.newBuilder().maximumSize(documentCacheMaximumEntries).build()
+                : null;
 
         NonEntityDictionary nonEntityDictionary = new NonEntityDictionary();
         PersistentResourceFetcher fetcher = new PersistentResourceFetcher(nonEntityDictionary);
@@ -225,6 +246,25 @@ public class QueryRunner {
         return null;
     }
 
+    /**
+     * Parses a query, reusing the document of an earlier identical query if there is one.
+     * @param query The graphQL query.
+     * @return The parsed document.
+     */
+    private Document parseDocument(String query) {
+        if (documentCache == null) {
+            return GraphQLEntityProjectionMaker.parseDocument(query);
+        }
+
+        Document document = documentCache.getIfPresent(query);
+        if (document == null) {
+            // Parse failures throw and are never cached.
+            document = GraphQLEntityProjectionMaker.parseDocument(query);
+            documentCache.put(query, document);
+        }
+        return document;
+    }
+
     private ElideResponse executeGraphQLRequest(String baseUrlEndPoint, ObjectMapper mapper, User principal,
                                                 String graphQLDocument, JsonNode jsonDocument, UUID requestId,
                                                 Map<String, List<String>> requestHeaders) {
@@ -242,7 +282,7 @@ public class QueryRunner {
 
             //TODO - get API version.
             GraphQLProjectionInfo projectionInfo = new GraphQLEntityProjectionMaker(elide.getElideSettings(), variables,
-                    apiVersion).make(query);
+                    apiVersion).make(parseDocument(query));
             GraphQLRequestScope requestScope = new GraphQLRequestScope(baseUrlEndPoint, tx, principal, apiVersion,
                     elide.getElideSettings(), projectionInfo, requestId, requestHeaders);
 
@@ -111,14 +111,31 @@ public class GraphQLEntityProjectionMaker {
      * @return all projections in the query
      */
     public GraphQLProjectionInfo make(String query) {
+        return make(parseDocument(query));
+    }
+
+    /**
+     * Parse a GraphQL query string.
+     *
+     * @param query GraphQL query
+     * @return the parsed document
+     */
+    public static Document parseDocument(String query) {
         Parser parser = new Parser();
-        Document parsedDocument;
         try {
-            parsedDocument = parser.parseDocument(query);
+            return parser.parseDocument(query);
         } catch (Exception e) {
             throw new InvalidEntityBodyException("Can't parse query: " + query);
         }
+    }
 
+    /**
+     * Convert a parsed GraphQL document into a collection of Elide {@link EntityProjection}s.
+     *
+     * @param parsedDocument parsed GraphQL query
+     * @return all projections in the query
+     */
+    public GraphQLProjectionInfo make(Document parsedDocument) {
         // resolve fragment definitions
         fragmentResolver.addFragments(parsedDocument);
 
@@ -13,6 +13,7 @@ import static com.yahoo.elide.test.graphql.GraphQLDSL.selection;
 import static com.yahoo.elide.test.graphql.GraphQLDSL.selections;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.Attribute;
@@ -20,6 +21,7 @@ import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.graphql.PersistentResourceFetcherTest;
 import org.junit.jupiter.api.Test;
+import graphql.language.Document;
 
 import java.io.IOException;
 
@@ -45,6 +47,22 @@ public class GraphQLEntityProjectMakerTest extends PersistentResourceFetcherTest
          assertEquals(1, page.getLimit());
      }
 
+     @Test
+     public void testReuseParsedDocument() throws IOException {
+         String graphQLRequest = loadGraphQLRequest("fetch/rootCollectionPaginateWithOffset" + ".graphql");
+         Document document = GraphQLEntityProjectionMaker.parseDocument(graphQLRequest);
+
+         GraphQLProjectionInfo first = new GraphQLEntityProjectionMaker(settings).make(document);
+         GraphQLProjectionInfo second = new GraphQLEntityProjectionMaker(settings).make(document);
+
+         EntityProjection firstProjection = first.getProjections().values().iterator().next();
+         EntityProjection secondProjection = second.getProjections().values().iterator().next();
+         assertEquals(firstProjection, secondProjection);
+         assertNotSame(firstProjection, secondProjection);
+         assertEquals(new GraphQLEntityProjectionMaker(settings).make(graphQLRequest).getProjections(),
+                 first.getProjections());
+     }
+
      @Test
      public void testParameterizedAttribute() {
          String graphQLRequest = document(
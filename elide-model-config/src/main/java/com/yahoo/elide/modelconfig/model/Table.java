@@ -48,7 +48,8 @@ import java.util.Set;
     "sql",
     "table",
     "dbConnectionName",
-    "filterTemplate"
+    "filterTemplate",
+    "cacheExpirationMinutes"
 })
 @Data
 @EqualsAndHashCode()
@@ -87,6 +88,9 @@ public class Table implements Named {
     @JsonProperty("cardinality")
     private String cardinality;
 
+    @JsonProperty("cacheExpirationMinutes")
+    private Long cacheExpirationMinutes;
+
     @JsonProperty("readAccess")
     private String readAccess = "Prefab.Role.All";
 
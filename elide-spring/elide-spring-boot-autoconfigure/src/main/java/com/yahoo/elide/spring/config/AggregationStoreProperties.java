@@ -6,6 +6,7 @@
 package com.yahoo.elide.spring.config;
 
 import static com.yahoo.elide.datastores.aggregation.cache.CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
+import static com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine.DEFAULT_PLAN_CACHE_MAXIMUM_ENTRIES;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
 import lombok.Data;
 
@@ -35,6 +36,32 @@ public class AggregationStoreProperties {
      */
     private int queryCacheMaximumEntries = DEFAULT_MAXIMUM_ENTRIES;
 
+    /**
+     * Limit on the estimated size in bytes of the query cache (rows × projected columns × 32 bytes).
+     * Non-positive values limit the number of entries instead.
+     */
+    private long queryCacheMaximumBytes = 0;
+
+    /**
+     * Limit on number of compiled SQL query plans to cache. Non-positive values disable the plan cache.
+     */
+    private int queryPlanCacheMaximumEntries = DEFAULT_PLAN_CACHE_MAXIMUM_ENTRIES;
+
+    /**
+     * Maximum number of page total queries computed concurrently with their data query, on separate connections.
+     * Non-positive values compute page totals on the calling thread, after the data query.
+     * Each of these queries takes a second connection from the pool while its request still holds the first, so
+     * the pool must be sized for the concurrent requests plus this many connections.  A smaller pool can leave
+     * every request holding a connection while it waits for another one for its page total.
+     */
+    private int pageTotalThreads = 0;
+
+    /**
+     * Seconds a table version is served from memory before it is refreshed in the background.
+     * Non-positive values run the version query on every request.
+     */
+    private long tableVersionRefreshSeconds = 0;
+
     /**
      * Default Cache Expiration.
      */
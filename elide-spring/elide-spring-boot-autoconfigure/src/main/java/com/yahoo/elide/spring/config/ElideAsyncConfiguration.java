@@ -166,8 +166,10 @@ public class ElideAsyncConfiguration {
     @ConditionalOnProperty(prefix = "elide.async.export", name = "enabled", matchIfMissing = false)
     public ResultStorageEngine buildResultStorageEngine(Elide elide, ElideConfigProperties settings,
             AsyncAPIDAO asyncQueryDAO) {
-        FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(settings.getAsync().getExport()
-                .getStorageDestination());
+        ExportControllerProperties exportProperties = settings.getAsync().getExport();
+        FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(
+                exportProperties.getStorageDestination(), exportProperties.isStorageCompression(),
+                exportProperties.getStorageChunkSize());
         return resultStorageEngine;
     }
 }
@@ -15,6 +15,7 @@ import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.Injector;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.security.UserCheckCache;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
@@ -52,18 +53,23 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.swagger.models.Info;
 import io.swagger.models.Swagger;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.persistence.EntityManager;
@@ -133,12 +139,14 @@ public class ElideAutoConfiguration {
      * @param dictionary Stores the static metadata about Elide models.
      * @param dataStore The persistence store.
      * @param settings Elide settings.
+     * @param userCheckCache Cache of user check outcomes shared across requests (or null).
      * @return A new elide instance.
      */
     @Bean
     @ConditionalOnMissingBean
     public Elide initializeElide(EntityDictionary dictionary,
-            DataStore dataStore, ElideConfigProperties settings) {
+            DataStore dataStore, ElideConfigProperties settings,
+            @Autowired(required = false) UserCheckCache userCheckCache) {
 
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withEntityDictionary(dictionary)
@@ -150,7 +158,8 @@ public class ElideAutoConfiguration {
                 .withBaseUrl(settings.getBaseUrl())
                 .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
                 .withJsonApiPath(settings.getJsonApi().getPath())
-                .withGraphQLApiPath(settings.getGraphql().getPath());
+                .withGraphQLApiPath(settings.getGraphql().getPath())
+                .withUserCheckCache(userCheckCache);
 
         if (settings.getAsync() != null
                 && settings.getAsync().getExport() != null
@@ -174,6 +183,22 @@ public class ElideAutoConfiguration {
         return new Elide(builder.build());
     }
 
+    /**
+     * Creates the cache of cacheable user check outcomes shared across requests, or null if it is disabled.
+     * Applications can inject it to invalidate the outcomes of a user whose entitlements changed.
+     * @param settings Elide configuration settings.
+     * @return An instance of a user check cache, or null.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public UserCheckCache buildUserCheckCache(ElideConfigProperties settings) {
+        if (settings.getUserCheckCacheMaximumEntries() <= 0) {
+            return null;
+        }
+        return new UserCheckCache(settings.getUserCheckCacheMaximumEntries(),
+                settings.getUserCheckCacheExpirationSeconds(), TimeUnit.SECONDS);
+    }
+
     /**
      * A Set containing Types to be excluded from EntityDictionary's EntityBinding.
      * @param settings Elide configuration settings.
@@ -240,6 +265,19 @@ public class ElideAutoConfiguration {
         return dictionary;
     }
 
+    /**
+     * Creates the bounded executor which computes page totals concurrently with their data query.
+     * @param settings Elide configuration settings.
+     * @return An instance of ExecutorService, shut down with the application context.
+     */
+    @Bean(name = "pageTotalExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "pageTotalExecutor")
+    @ConditionalOnExpression("${elide.aggregation-store.enabled:false} "
+            + "and ${elide.aggregation-store.page-total-threads:0} > 0")
+    public ExecutorService buildPageTotalExecutor(ElideConfigProperties settings) {
+        return SQLQueryEngine.newPageTotalExecutor(settings.getAggregationStore().getPageTotalThreads());
+    }
+
     /**
      * Create a QueryEngine instance for aggregation data store to use.
      * @param defaultDataSource DataSource for JPA.
@@ -247,6 +285,7 @@ public class ElideAutoConfiguration {
      * @param settings Elide configuration settings.
      * @param dataSourceConfiguration DataSource Configuration
      * @param dbPasswordExtractor Password Extractor Implementation
+     * @param pageTotalExecutor Executor for page totals, or null to compute them on the calling thread.
      * @return An instance of a QueryEngine
      * @throws ClassNotFoundException Exception thrown.
      */
@@ -257,9 +296,14 @@ public class ElideAutoConfiguration {
                                         @Autowired(required = false) DynamicConfiguration dynamicConfig,
                                         ElideConfigProperties settings,
                                         DataSourceConfiguration dataSourceConfiguration,
-                                        DBPasswordExtractor dbPasswordExtractor) throws ClassNotFoundException {
+                                        DBPasswordExtractor dbPasswordExtractor,
+                                        @Autowired(required = false) @Qualifier("pageTotalExecutor")
+                                                ExecutorService pageTotalExecutor)
+            throws ClassNotFoundException {
 
         boolean enableMetaDataStore = settings.getAggregationStore().isEnableMetaDataStore();
+        int planCacheMaximumEntries = settings.getAggregationStore().getQueryPlanCacheMaximumEntries();
+        SQLQueryEngine queryEngine;
         ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
                         SQLDialectFactory.getDialect(settings.getAggregationStore().getDefaultDialect()));
         if (isDynamicConfigEnabled(settings)) {
@@ -274,12 +318,19 @@ public class ElideAutoConfiguration {
                                                 SQLDialectFactory.getDialect(dbConfig.getDialect())));
             });
 
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
-                    new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))));
+            queryEngine = new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
+                    new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
+                    planCacheMaximumEntries);
         } else {
             MetaDataStore metaDataStore = new MetaDataStore(enableMetaDataStore);
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+            queryEngine = new SQLQueryEngine(metaDataStore, defaultConnectionDetails, new HashMap<>(),
+                    new HashSet<>(), planCacheMaximumEntries);
         }
+
+        queryEngine.setPageTotalExecutor(pageTotalExecutor);
+        queryEngine.setTableVersionRefreshInterval(
+                Duration.ofSeconds(settings.getAggregationStore().getTableVersionRefreshSeconds()));
+        return queryEngine;
     }
 
     /**
@@ -335,9 +386,18 @@ public class ElideAutoConfiguration {
 
         int maxCacheItems = settings.getAggregationStore().getQueryCacheMaximumEntries();
         if (maxCacheItems > 0) {
-            cache = new CaffeineCache(maxCacheItems, settings.getAggregationStore().getDefaultCacheExpirationMinutes());
+            cache = new CaffeineCache(maxCacheItems, settings.getAggregationStore().getQueryCacheMaximumBytes(),
+                    settings.getAggregationStore().getDefaultCacheExpirationMinutes());
             if (meterRegistry != null) {
                 CaffeineCacheMetrics.monitor(meterRegistry, cache.getImplementation(), "elideQueryCache");
+                FunctionCounter.builder("cache.coalesced", cache, CaffeineCache::getCoalescedRequests)
+                        .tag("cache", "elideQueryCache")
+                        .description("The number of requests which waited for an identical query in progress")
+                        .register(meterRegistry);
+                Gauge.builder("cache.estimated.bytes", cache, CaffeineCache::getEstimatedBytes)
+                        .tag("cache", "elideQueryCache")
+                        .description("The estimated size in bytes of the cached query results")
+                        .register(meterRegistry);
             }
         }
         return cache;
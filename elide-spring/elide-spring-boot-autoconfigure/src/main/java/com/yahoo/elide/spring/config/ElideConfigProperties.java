@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.spring.config;
 
+import com.yahoo.elide.core.security.UserCheckCache;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import lombok.Data;
 
@@ -65,4 +66,15 @@ public class ElideConfigProperties {
      * in any callback URLs returned by the service.  If not set, Elide uses the API request to derive the base URL.
      */
     private String baseUrl = "";
+
+    /**
+     * Limit on number of cacheable user check outcomes shared across requests.
+     * Non-positive values disable the user check cache.
+     */
+    private long userCheckCacheMaximumEntries = 0;
+
+    /**
+     * How long (in seconds) a cacheable user check outcome is reused across requests.
+     */
+    private long userCheckCacheExpirationSeconds = UserCheckCache.DEFAULT_EXPIRATION_SECONDS;
 }
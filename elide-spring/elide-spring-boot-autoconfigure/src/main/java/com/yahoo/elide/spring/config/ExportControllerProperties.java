@@ -29,4 +29,14 @@ public class ExportControllerProperties extends ControllerProperties {
      * Storage engine destination .
      */
     private String storageDestination = "/tmp";
+
+    /**
+     * Gzip compress the stored export results.
+     */
+    private boolean storageCompression = false;
+
+    /**
+     * Size in bytes of the chunks export results are written in.
+     */
+    private int storageChunkSize = 64 * 1024;
 }
@@ -19,4 +19,9 @@ public class JsonApiControllerProperties extends ControllerProperties {
      * Turns on/off JSON-API links in the API.
      */
     boolean enableLinks = false;
+
+    /**
+     * Turns on/off writing JSON-API responses as they are loaded rather than as a finished document.
+     */
+    boolean streamResponses = false;
 }
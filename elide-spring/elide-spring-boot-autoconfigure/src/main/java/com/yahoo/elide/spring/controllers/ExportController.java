@@ -5,16 +5,19 @@
  */
 package com.yahoo.elide.spring.controllers;
 
+import com.yahoo.elide.async.service.storageengine.ByteRangeResponse;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -23,6 +26,7 @@ import io.reactivex.Observable;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -51,13 +55,27 @@ public class ExportController {
     /**
      * Single entry point for export requests.
      * @param asyncQueryId Id of results to download
+     * @param range HTTP Range header value, if any
      * @param response HttpServletResponse instance
      * @return ResponseEntity
      */
     @GetMapping(path = "/{asyncQueryId}")
     public ResponseEntity<StreamingResponseBody> export(@PathVariable String asyncQueryId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
             HttpServletResponse response) {
 
+        SeekableByteChannel channel;
+        try {
+            channel = resultStorageEngine.getResultsChannelByID(asyncQueryId);
+        } catch (IllegalStateException e) {
+            log.debug(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SC_NOT_FOUND).build();
+        }
+
+        if (channel != null) {
+            return exportRawResults(asyncQueryId, range, channel);
+        }
+
         Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
         StreamingResponseBody streamingOutput = outputStream -> {
             observableResults
@@ -104,4 +122,29 @@ public class ExportController {
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(streamingOutput);
     }
+
+    /**
+     * Streams the stored bytes of the results, honoring a single range request.
+     * @param asyncQueryId Id of results to download
+     * @param rangeHeader HTTP Range header value, if any
+     * @param channel Channel over the stored results
+     * @return ResponseEntity
+     */
+    private ResponseEntity<StreamingResponseBody> exportRawResults(String asyncQueryId, String rangeHeader,
+            SeekableByteChannel channel) {
+        ByteRangeResponse rawResults = ByteRangeResponse.of(channel, rangeHeader);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(rawResults.getStatus());
+        rawResults.getHeaders().forEach((name, value) -> builder.header(name, value));
+        if (!rawResults.hasBody()) {
+            return builder.build();
+        }
+
+        StreamingResponseBody streamingOutput = rawResults::write;
+        return builder
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId)
+                .contentLength(rawResults.getContentLength())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(streamingOutput);
+    }
 }
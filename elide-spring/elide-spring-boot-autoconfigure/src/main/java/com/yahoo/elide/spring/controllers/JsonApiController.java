@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 /**
@@ -67,7 +68,8 @@ public class JsonApiController {
     @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
     public Callable<ResponseEntity<String>> elideGet(@RequestHeader HttpHeaders requestHeaders,
                                                      @RequestParam Map<String, String> allRequestParams,
-                                                     HttpServletRequest request, Authentication authentication) {
+                                                     HttpServletRequest request, HttpServletResponse servletResponse,
+                                                     Authentication authentication) {
         final String apiVersion = HeaderUtils.resolveApiVersion(requestHeaders);
         final Map<String, List<String>> requestHeadersCleaned = HeaderUtils.removeAuthHeaders(requestHeaders);
         final String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
@@ -77,6 +79,20 @@ public class JsonApiController {
         return new Callable<ResponseEntity<String>>() {
             @Override
             public ResponseEntity<String> call() throws Exception {
+                if (settings.getJsonApi().isStreamResponses()) {
+                    elide.get(baseUrl, pathname, new MultivaluedHashMap<>(allRequestParams), requestHeadersCleaned,
+                            user, apiVersion, UUID.randomUUID(), (responseCode, body) -> {
+                                servletResponse.setStatus(responseCode);
+                                if (body != null) {
+                                    servletResponse.setContentType(JSON_API_CONTENT_TYPE);
+                                    body.write(servletResponse.getOutputStream());
+                                }
+                            });
+
+                    // The response has already been written.
+                    return null;
+                }
+
                 ElideResponse response = elide.get(baseUrl, pathname,
                         new MultivaluedHashMap<>(allRequestParams), requestHeadersCleaned,
                         user, apiVersion, UUID.randomUUID());
@@ -8,9 +8,11 @@ package com.yahoo.elide.standalone;
 import static com.yahoo.elide.standalone.config.ElideResourceConfig.ASYNC_EXECUTOR_ATTR;
 import static com.yahoo.elide.standalone.config.ElideResourceConfig.ASYNC_UPDATER_ATTR;
 import static com.yahoo.elide.standalone.config.ElideResourceConfig.ELIDE_STANDALONE_SETTINGS_ATTR;
+import static com.yahoo.elide.standalone.config.ElideResourceConfig.PAGE_TOTAL_EXECUTOR_ATTR;
 
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.standalone.config.ElideResourceConfig;
 import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
 import com.codahale.metrics.servlet.InstrumentedFilter;
@@ -26,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.EnumSet;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import javax.servlet.DispatcherType;
@@ -37,6 +40,7 @@ import javax.servlet.DispatcherType;
 public class ElideStandalone {
     private final ElideStandaloneSettings elideStandaloneSettings;
     private Server jettyServer;
+    private ExecutorService pageTotalExecutor;
 
     /**
      * Constructor.
@@ -94,6 +98,13 @@ public class ElideStandalone {
             context.setAttribute(ASYNC_UPDATER_ATTR, Executors.newFixedThreadPool(threadPoolSize));
         }
 
+        Integer pageTotalThreads = elideStandaloneSettings.getAnalyticProperties().getPageTotalThreads();
+        if (elideStandaloneSettings.getAnalyticProperties().enableAggregationDataStore()
+                && pageTotalThreads != null && pageTotalThreads > 0) {
+            pageTotalExecutor = SQLQueryEngine.newPageTotalExecutor(pageTotalThreads);
+            context.setAttribute(PAGE_TOTAL_EXECUTOR_ATTR, pageTotalExecutor);
+        }
+
         if (elideStandaloneSettings.enableJSONAPI()) {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getJsonApiPathSpec());
@@ -159,6 +170,7 @@ public class ElideStandalone {
         } finally {
             if (block) {
                 jettyServer.destroy();
+                shutdownPageTotalExecutor();
             }
         }
     }
@@ -171,5 +183,13 @@ public class ElideStandalone {
     public void stop() throws Exception {
         jettyServer.stop();
         jettyServer.destroy();
+        shutdownPageTotalExecutor();
+    }
+
+    private void shutdownPageTotalExecutor() {
+        if (pageTotalExecutor != null) {
+            pageTotalExecutor.shutdown();
+            pageTotalExecutor = null;
+        }
     }
 }
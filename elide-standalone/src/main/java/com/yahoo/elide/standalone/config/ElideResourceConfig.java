@@ -35,6 +35,7 @@ import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
 import com.yahoo.elide.modelconfig.DynamicConfiguration;
 import com.yahoo.elide.standalone.Util;
@@ -72,6 +73,7 @@ public class ElideResourceConfig extends ResourceConfig {
     public static final String ELIDE_STANDALONE_SETTINGS_ATTR = "elideStandaloneSettings";
     public static final String ASYNC_EXECUTOR_ATTR = "asyncExecutor";
     public static final String ASYNC_UPDATER_ATTR = "asyncUpdater";
+    public static final String PAGE_TOTAL_EXECUTOR_ATTR = "pageTotalExecutor";
 
     private static MetricRegistry metricRegistry = null;
     private static HealthCheckRegistry healthCheckRegistry = null;
@@ -131,6 +133,11 @@ public class ElideResourceConfig extends ResourceConfig {
                     QueryEngine queryEngine = settings.getQueryEngine(metaDataStore, defaultConnectionDetails,
                                     dynamicConfiguration, settings.getDataSourceConfiguration(),
                                     settings.getAnalyticProperties().getDBPasswordExtractor());
+                    ExecutorService pageTotalExecutor =
+                            (ExecutorService) servletContext.getAttribute(PAGE_TOTAL_EXECUTOR_ATTR);
+                    if (pageTotalExecutor != null && queryEngine instanceof SQLQueryEngine) {
+                        ((SQLQueryEngine) queryEngine).setPageTotalExecutor(pageTotalExecutor);
+                    }
                     AggregationDataStore aggregationDataStore = settings.getAggregationDataStore(queryEngine);
                     if (aggregationDataStore == null) {
                         throw new IllegalStateException(
@@ -175,7 +182,9 @@ public class ElideResourceConfig extends ResourceConfig {
 
                         ResultStorageEngine resultStorageEngine = asyncProperties.getResultStorageEngine();
                         if (resultStorageEngine == null) {
-                            resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination());
+                            resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination(),
+                                    asyncProperties.enableStorageCompression(),
+                                    asyncProperties.getStorageChunkSize());
                         }
                         bind(resultStorageEngine).to(ResultStorageEngine.class).named("resultStorageEngine");
 
@@ -6,6 +6,7 @@
 package com.yahoo.elide.standalone.config;
 
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
 import com.yahoo.elide.modelconfig.DBPasswordExtractor;
 import com.yahoo.elide.modelconfig.model.DBConfig;
@@ -87,6 +88,47 @@ public interface ElideStandaloneAnalyticSettings {
         return CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
     }
 
+    /**
+     * Limit on the estimated size in bytes of the query cache (rows × projected columns × 32 bytes).
+     * Non-positive values limit the number of entries instead.
+     *
+     * @return Default: 0
+     */
+    default Long getQueryCacheMaximumBytes() {
+        return 0L;
+    }
+
+    /**
+     * Limit on number of compiled SQL query plans to cache. Non-positive values disable the plan cache.
+     *
+     * @return Default: 1024
+     */
+    default Integer getQueryPlanCacheMaximumEntries() {
+        return SQLQueryEngine.DEFAULT_PLAN_CACHE_MAXIMUM_ENTRIES;
+    }
+
+    /**
+     * Maximum number of page total queries computed concurrently with their data query, on separate connections.
+     * Non-positive values compute page totals on the calling thread, after the data query.
+     * Each of these queries takes a second connection from the pool while its request still holds the first, so
+     * the pool must be sized for the concurrent requests plus this many connections.
+     *
+     * @return Default: 0
+     */
+    default Integer getPageTotalThreads() {
+        return 0;
+    }
+
+    /**
+     * Seconds a table version is served from memory before it is refreshed in the background.
+     * Non-positive values run the version query on every request.
+     *
+     * @return Default: 0
+     */
+    default Long getTableVersionRefreshSeconds() {
+        return 0L;
+    }
+
     /**
      * Returns the default expiration in minutes of items in the AggregationDataStore query cache.
      *
@@ -6,6 +6,7 @@
 package com.yahoo.elide.standalone.config;
 
 import com.yahoo.elide.async.service.dao.AsyncAPIDAO;
+import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 
 import java.util.concurrent.ExecutorService;
@@ -135,6 +136,24 @@ public interface ElideStandaloneAsyncSettings {
         return "/tmp";
     }
 
+    /**
+     * Gzip compress the results stored by the default storage engine.
+     *
+     * @return Default: False
+     */
+    default boolean enableStorageCompression() {
+        return false;
+    }
+
+    /**
+     * Size in bytes of the chunks the default storage engine writes results in.
+     *
+     * @return Default: 65536
+     */
+    default Integer getStorageChunkSize() {
+        return FileResultStorageEngine.DEFAULT_CHUNK_SIZE;
+    }
+
     /**
      * Storage engine destination.
      *
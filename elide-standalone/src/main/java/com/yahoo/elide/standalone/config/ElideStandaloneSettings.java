@@ -49,6 +49,7 @@ import io.swagger.models.Info;
 import io.swagger.models.Swagger;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -357,6 +358,7 @@ public interface ElideStandaloneSettings {
     default Cache getQueryCache() {
         return getAnalyticProperties().getQueryCacheMaximumEntries() > 0
                 ? new CaffeineCache(getAnalyticProperties().getQueryCacheMaximumEntries(),
+                                    getAnalyticProperties().getQueryCacheMaximumBytes(),
                                     getAnalyticProperties().getDefaultCacheExpirationMinutes())
                 : null;
     }
@@ -489,6 +491,7 @@ public interface ElideStandaloneSettings {
     default QueryEngine getQueryEngine(MetaDataStore metaDataStore, ConnectionDetails defaultConnectionDetails,
                     Optional<DynamicConfiguration> dynamicConfiguration,
                     DataSourceConfiguration dataSourceConfiguration, DBPasswordExtractor dbPasswordExtractor) {
+        SQLQueryEngine queryEngine;
         if (dynamicConfiguration.isPresent()) {
             Map<String, ConnectionDetails> connectionDetailsMap = new HashMap<>();
 
@@ -498,9 +501,16 @@ public interface ElideStandaloneSettings {
                                                 dataSourceConfiguration.getDataSource(dbConfig, dbPasswordExtractor),
                                                 SQLDialectFactory.getDialect(dbConfig.getDialect())));
             });
-            return new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
-                    new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))));
+            queryEngine = new SQLQueryEngine(metaDataStore, defaultConnectionDetails, connectionDetailsMap,
+                    new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
+                    getAnalyticProperties().getQueryPlanCacheMaximumEntries());
+        } else {
+            queryEngine = new SQLQueryEngine(metaDataStore, defaultConnectionDetails, new HashMap<>(),
+                    new HashSet<>(), getAnalyticProperties().getQueryPlanCacheMaximumEntries());
         }
-        return new SQLQueryEngine(metaDataStore, defaultConnectionDetails);
+
+        queryEngine.setTableVersionRefreshInterval(
+                Duration.ofSeconds(getAnalyticProperties().getTableVersionRefreshSeconds()));
+        return queryEngine;
     }
 }